@@ -0,0 +1,97 @@
+package com.freelance.platform;
+
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = "BenchmarkSecretKeyThatIsAtLeast256BitsLongForHmacSha256Signing0123456789";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 30, 45);
+
+    private BenchmarkFixtures() {
+    }
+
+    // Every collaborator left null, for benchmarks that only touch pure mapping methods
+    public static <T> T unwired(Class<T> type) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has " + constructors.length + " public constructors");
+        }
+        Constructor<?> constructor = constructors[0];
+        try {
+            return type.cast(constructor.newInstance(new Object[constructor.getParameterCount()]));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot construct " + type.getSimpleName(), e);
+        }
+    }
+
+    public static User user(long id, User.UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("$2a$12$abcdefghijklmnopqrstuuJ3Gk6uJ3Gk6uJ3Gk6uJ3Gk6uJ3Gk6u");
+        user.setRole(role);
+        user.setBalance(new BigDecimal("1520.75"));
+        user.setAvatarUrl("/api/avatars/user" + id + ".svg");
+        user.setFullName("User Number " + id);
+        user.setPhone("+1-555-0100");
+        user.setBio("Experienced developer working on web and mobile projects. ".repeat(4));
+        user.setCreatedAt(NOW);
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    public static Project project(long id, User client) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Build a marketplace landing page #" + id);
+        project.setDescription("We need a responsive landing page with a signup form and analytics. ".repeat(8));
+        project.setBudget(new BigDecimal("750.00"));
+        project.setClient(client);
+        project.setStatus(Project.ProjectStatus.OPEN);
+        project.setCreatedAt(NOW);
+        project.setUpdatedAt(NOW);
+        return project;
+    }
+
+    public static Order order(long id, Project project, User freelancer) {
+        Order order = new Order();
+        order.setId(id);
+        order.setProject(project);
+        order.setFreelancer(freelancer);
+        order.setClient(project.getClient());
+        order.setPrice(new BigDecimal("700.00"));
+        order.setStatus(Order.OrderStatus.IN_PROGRESS);
+        order.setCreatedAt(NOW);
+        order.setUpdatedAt(NOW);
+        return order;
+    }
+
+    public static List<Project> projects(int count) {
+        User client = user(1, User.UserRole.CLIENT);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(project(i + 1, client));
+        }
+        return projects;
+    }
+
+    public static List<Order> orders(int count) {
+        User freelancer = user(2, User.UserRole.FREELANCER);
+        List<Order> orders = new ArrayList<>(count);
+        for (Project project : projects(count)) {
+            orders.add(order(project.getId(), project, freelancer));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,73 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.BenchmarkFixtures;
+import com.freelance.platform.dto.ProjectDTO;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// encodeBandwidth's bytes result divided by its ops/us gives the payload size per format
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<List<ProjectDTO.ProjectResponse>> PROJECT_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<ProjectDTO.ProjectResponse> projects;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        ProjectService projectService = BenchmarkFixtures.unwired(ProjectService.class);
+        projects = BenchmarkFixtures.projects(size).stream().map(projectService::mapToDetailResponse).toList();
+        encoded = mapper.writeValueAsBytes(projects);
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return mapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public byte[] encodeBandwidth(Payload payload) {
+        byte[] bytes = mapper.writeValueAsBytes(projects);
+        payload.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<ProjectDTO.ProjectResponse> decode() {
+        return mapper.readValue(encoded, PROJECT_LIST);
+    }
+}
@@ -0,0 +1,42 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.BenchmarkFixtures;
+import com.freelance.platform.dto.OrderDTO;
+import com.freelance.platform.dto.ProjectDTO;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private JsonMapper jsonMapper;
+    private List<ProjectDTO.ProjectListResponse> projects;
+    private List<OrderDTO.OrderListResponse> orders;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        ProjectService projectService = BenchmarkFixtures.unwired(ProjectService.class);
+        OrderService orderService = BenchmarkFixtures.unwired(OrderService.class);
+        projects = BenchmarkFixtures.projects(size).stream().map(projectService::mapToListResponse).toList();
+        orders = BenchmarkFixtures.orders(size).stream().map(orderService::mapToListResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() {
+        return jsonMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] serializeOrders() {
+        return jsonMapper.writeValueAsBytes(orders);
+    }
+}
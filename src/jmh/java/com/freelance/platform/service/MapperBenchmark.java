@@ -0,0 +1,75 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.BenchmarkFixtures;
+import com.freelance.platform.dto.AuthDTO;
+import com.freelance.platform.dto.OrderDTO;
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.dto.UserDTO;
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private AuthService authService;
+    private UserService userService;
+    private ProjectService projectService;
+    private OrderService orderService;
+
+    private User user;
+    private Project project;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        authService = BenchmarkFixtures.unwired(AuthService.class);
+        userService = BenchmarkFixtures.unwired(UserService.class);
+        projectService = BenchmarkFixtures.unwired(ProjectService.class);
+        orderService = BenchmarkFixtures.unwired(OrderService.class);
+
+        user = BenchmarkFixtures.user(1, User.UserRole.CLIENT);
+        project = BenchmarkFixtures.project(1, user);
+        order = BenchmarkFixtures.order(1, project, BenchmarkFixtures.user(2, User.UserRole.FREELANCER));
+    }
+
+    @Benchmark
+    public AuthDTO.UserResponse authUserResponse() {
+        return authService.mapToUserResponse(user);
+    }
+
+    @Benchmark
+    public UserDTO.UserProfileResponse userProfileResponse() {
+        return userService.mapToProfileResponse(user);
+    }
+
+    @Benchmark
+    public UserDTO.UserListResponse userListResponse() {
+        return userService.mapToListResponse(user);
+    }
+
+    @Benchmark
+    public ProjectDTO.ProjectResponse projectDetailResponse() {
+        return projectService.mapToDetailResponse(project);
+    }
+
+    @Benchmark
+    public ProjectDTO.ProjectListResponse projectListResponse() {
+        return projectService.mapToListResponse(project);
+    }
+
+    @Benchmark
+    public OrderDTO.OrderResponse orderDetailResponse() {
+        return orderService.mapToDetailResponse(order);
+    }
+
+    @Benchmark
+    public OrderDTO.OrderListResponse orderListResponse() {
+        return orderService.mapToListResponse(order);
+    }
+}
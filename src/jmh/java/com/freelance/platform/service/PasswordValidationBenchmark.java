@@ -0,0 +1,30 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.BenchmarkFixtures;
+import com.freelance.platform.dto.AuthDTO;
+import com.freelance.platform.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PasswordValidationBenchmark {
+
+    private AuthService authService;
+    private AuthDTO.RegisterRequest request;
+
+    @Setup
+    public void setUp() {
+        authService = BenchmarkFixtures.unwired(AuthService.class);
+        request = new AuthDTO.RegisterRequest("marketplace_user", "marketplace.user@example.com",
+                "Correct-Horse-Battery-9", User.UserRole.FREELANCER);
+    }
+
+    @Benchmark
+    public AuthDTO.RegisterRequest validatePasswordSecurity() {
+        authService.validatePasswordSecurity(request);
+        return request;
+    }
+}
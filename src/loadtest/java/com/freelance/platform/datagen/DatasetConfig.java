@@ -0,0 +1,43 @@
+package com.freelance.platform.datagen;
+
+public record DatasetConfig(
+        int clients,
+        int freelancers,
+        int projects,
+        int orders,
+        long seed,
+        int threads,
+        int batchSize
+) {
+
+    public static DatasetConfig fromSystemProperties() {
+        return new DatasetConfig(
+                Integer.getInteger("datagen.clients", 20_000),
+                Integer.getInteger("datagen.freelancers", 80_000),
+                Integer.getInteger("datagen.projects", 1_000_000),
+                Integer.getInteger("datagen.orders", 5_000_000),
+                Long.getLong("datagen.seed", 42),
+                Integer.getInteger("datagen.threads", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("datagen.batchSize", 1_000)
+        );
+    }
+
+    int users() {
+        return clients + freelancers;
+    }
+
+    void validate() {
+        if (clients <= 0 || freelancers <= 0) {
+            throw new IllegalArgumentException("datagen.clients and datagen.freelancers must be positive");
+        }
+        if (projects < 0 || orders < 0) {
+            throw new IllegalArgumentException("datagen.projects and datagen.orders must not be negative");
+        }
+        if (orders > 0 && projects == 0) {
+            throw new IllegalArgumentException("Orders need at least one project");
+        }
+        if (threads <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("datagen.threads and datagen.batchSize must be positive");
+        }
+    }
+}
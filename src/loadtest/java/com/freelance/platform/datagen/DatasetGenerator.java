@@ -0,0 +1,266 @@
+package com.freelance.platform.datagen;
+
+import com.freelance.platform.FreelancePlatformApplication;
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.service.AvatarService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+// Run with mvn -Pdatagen verify -Ddatagen.url=jdbc:h2:file:./target/datagen/freelancedb
+public class DatasetGenerator {
+
+    public static final String PASSWORD = "Dataset-Passw0rd!";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final long YEAR_SECONDS = 365L * 24 * 60 * 60;
+
+    private static final long USER_SALT = 0x5DEECE66DL;
+    private static final long PROJECT_SALT = 0x2545F4914F6CDD1DL;
+    private static final long PROJECT_CLIENT_SALT = 0x27BB2EE687B0B0FDL;
+    private static final long ORDER_SALT = 0x9E3779B97F4A7C15L;
+
+    // Weights follow enum declaration order
+    private static final List<Project.ProjectStatus> PROJECT_STATUSES =
+            wheel(Project.ProjectStatus.class, 55, 20, 15, 5, 5);
+    private static final List<Order.OrderStatus> ORDER_STATUSES =
+            wheel(Order.OrderStatus.class, 15, 10, 15, 40, 15, 5);
+
+    private static final String USER_SQL = "INSERT INTO users (id, username, password, email, role, balance, avatar_url, "
+            + "full_name, phone, bio, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String PROJECT_SQL = "INSERT INTO projects (id, title, description, budget, client_id, status, "
+            + "created_at, updated_at, closed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ORDER_SQL = "INSERT INTO orders (id, project_id, freelancer_id, client_id, price, status, "
+            + "created_at, updated_at, completed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final DatasetConfig config;
+    private final String passwordHash;
+
+    private long userBase;
+    private long projectBase;
+    private long orderBase;
+
+    public DatasetGenerator(DataSource dataSource, DatasetConfig config, String passwordHash) {
+        config.validate();
+        this.dataSource = dataSource;
+        this.config = config;
+        this.passwordHash = passwordHash;
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetConfig config = DatasetConfig.fromSystemProperties();
+        String url = System.getProperty("datagen.url", "jdbc:h2:file:./target/datagen/freelancedb");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FreelancePlatformApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(withArguments(args,
+                        "--spring.datasource.url=" + url,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN"))) {
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+            new DatasetGenerator(context.getBean(DataSource.class), config, passwordHash).generate();
+            System.out.println("Dataset written to " + url + " (password for every user: " + PASSWORD + ")");
+        }
+    }
+
+    public void generate() throws SQLException, InterruptedException {
+        userBase = nextId("users");
+        projectBase = nextId("projects");
+        orderBase = nextId("orders");
+
+        insert("users", USER_SQL, userBase, config.users(), USER_SALT, this::bindUser);
+        insert("projects", PROJECT_SQL, projectBase, config.projects(), PROJECT_SALT, this::bindProject);
+        insert("orders", ORDER_SQL, orderBase, config.orders(), ORDER_SALT, this::bindOrder);
+    }
+
+    private void bindUser(PreparedStatement statement, long index, SplittableRandom random) throws SQLException {
+        boolean client = index < config.clients();
+        long id = userBase + index;
+        // Named after the row id so a second load into a non-empty database cannot hit the unique constraints
+        String username = (client ? "client_" : "freelancer_") + id;
+        LocalDateTime createdAt = timestamp(random);
+
+        statement.setLong(1, id);
+        statement.setString(2, username);
+        statement.setString(3, passwordHash);
+        statement.setString(4, username + "@dataset.test");
+        statement.setString(5, (client ? User.UserRole.CLIENT : User.UserRole.FREELANCER).name());
+        statement.setBigDecimal(6, client ? money(random, 100, 50_000) : money(random, 0, 20_000));
+        statement.setString(7, AvatarService.urlFor(username));
+        statement.setString(8, "Dataset User " + id);
+        statement.setString(9, "+1-555-" + String.format("%04d", random.nextInt(10_000)));
+        statement.setString(10, client ? null : TextGenerator.bio(random));
+        statement.setObject(11, createdAt);
+        statement.setObject(12, createdAt);
+    }
+
+    private void bindProject(PreparedStatement statement, long index, SplittableRandom random) throws SQLException {
+        Project.ProjectStatus status = PROJECT_STATUSES.get(random.nextInt(PROJECT_STATUSES.size()));
+        LocalDateTime createdAt = timestamp(random);
+        LocalDateTime updatedAt = createdAt.plusHours(random.nextInt(24 * 30));
+        boolean closed = status == Project.ProjectStatus.CLOSED || status == Project.ProjectStatus.CANCELLED;
+
+        statement.setLong(1, projectBase + index);
+        statement.setString(2, TextGenerator.title(random));
+        statement.setString(3, TextGenerator.description(random));
+        statement.setBigDecimal(4, money(random, 20, 20_000));
+        statement.setLong(5, clientIdOf(index));
+        statement.setString(6, status.name());
+        statement.setObject(7, createdAt);
+        statement.setObject(8, updatedAt);
+        statement.setObject(9, closed ? updatedAt : null);
+    }
+
+    private void bindOrder(PreparedStatement statement, long index, SplittableRandom random) throws SQLException {
+        long projectIndex = random.nextInt(config.projects());
+        Order.OrderStatus status = ORDER_STATUSES.get(random.nextInt(ORDER_STATUSES.size()));
+        LocalDateTime createdAt = timestamp(random);
+        LocalDateTime updatedAt = createdAt.plusHours(random.nextInt(24 * 60));
+
+        statement.setLong(1, orderBase + index);
+        statement.setLong(2, projectBase + projectIndex);
+        statement.setLong(3, userBase + config.clients() + random.nextInt(config.freelancers()));
+        statement.setLong(4, clientIdOf(projectIndex));
+        statement.setBigDecimal(5, money(random, 20, 20_000));
+        statement.setString(6, status.name());
+        statement.setObject(7, createdAt);
+        statement.setObject(8, updatedAt);
+        statement.setObject(9, status == Order.OrderStatus.COMPLETED ? updatedAt : null);
+    }
+
+    private long clientIdOf(long projectIndex) {
+        return userBase + Math.floorMod(mix(config.seed() ^ PROJECT_CLIENT_SALT, projectIndex), config.clients());
+    }
+
+    private void insert(String table, String sql, long base, int count, long salt, RowBinder binder)
+            throws SQLException, InterruptedException {
+        if (count == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        int chunkSize = config.batchSize() * 10;
+        List<Future<?>> chunks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(config.threads())) {
+            for (int from = 0; from < count; from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(count, from + chunkSize);
+                chunks.add(executor.submit(() -> {
+                    insertChunk(sql, base, chunkStart, chunkEnd, salt, binder);
+                    return null;
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException("Failed to generate " + table, e.getCause());
+        }
+        restartIdentity(table, base + count);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-8s %,12d rows in %7.1f s (%,.0f rows/s)%n", table, count, seconds, count / seconds);
+    }
+
+    private void insertChunk(String sql, long base, int from, int to, long salt, RowBinder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (long index = from; index < to; index++) {
+                    binder.bind(statement, index, new SplittableRandom(mix(config.seed() ^ salt, index)));
+                    statement.addBatch();
+                    if (++pending == config.batchSize()) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private long nextId(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void restartIdentity(String table, long next) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private static LocalDateTime timestamp(SplittableRandom random) {
+        return EPOCH.plusSeconds(random.nextLong(YEAR_SECONDS));
+    }
+
+    private static BigDecimal money(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextLong((max - min) * 100L + 1), 2);
+    }
+
+    private static long mix(long seed, long index) {
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static <E extends Enum<E>> List<E> wheel(Class<E> type, int... weights) {
+        E[] constants = type.getEnumConstants();
+        List<E> wheel = new ArrayList<>();
+        for (int i = 0; i < constants.length; i++) {
+            wheel.addAll(Collections.nCopies(weights[i], constants[i]));
+        }
+        return List.copyOf(wheel);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, long index, SplittableRandom random) throws SQLException;
+    }
+
+    // Command-line arguments take precedence over application.properties
+    private static String[] withArguments(String[] args, String... overrides) {
+        return Stream.concat(Arrays.stream(overrides), Arrays.stream(args)).toArray(String[]::new);
+    }
+}
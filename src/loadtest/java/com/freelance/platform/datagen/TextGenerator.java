@@ -0,0 +1,74 @@
+package com.freelance.platform.datagen;
+
+import java.util.SplittableRandom;
+
+final class TextGenerator {
+
+    private static final String[] WORDS = {
+            "responsive", "landing", "page", "mobile", "app", "backend", "api", "integration", "payment",
+            "dashboard", "analytics", "design", "logo", "brand", "wordpress", "shop", "checkout", "react",
+            "spring", "database", "migration", "performance", "testing", "automation", "scraper", "bot",
+            "telegram", "marketing", "copywriting", "translation", "video", "editing", "animation", "seo",
+            "audit", "security", "deployment", "docker", "cloud", "support", "maintenance", "feature",
+            "refactor", "prototype", "figma", "illustration", "catalog", "booking", "calendar", "chat",
+            "we", "need", "a", "an", "the", "with", "for", "and", "to", "of", "in", "our", "new", "existing",
+            "experienced", "developer", "deadline", "weeks", "budget", "flexible", "long-term", "urgent"
+    };
+
+    private static final String[] TITLE_SUBJECTS = {
+            "landing page", "mobile app", "REST API", "online store", "admin dashboard", "logo and brand kit",
+            "Telegram bot", "data scraper", "marketing site", "booking system", "payment integration",
+            "product catalog", "promo video", "SEO audit", "CI/CD pipeline", "chat widget"
+    };
+
+    private static final String[] TITLE_VERBS = {
+            "Build", "Design", "Redesign", "Fix", "Optimize", "Migrate", "Integrate", "Develop", "Launch"
+    };
+
+    private TextGenerator() {
+    }
+
+    static String title(SplittableRandom random) {
+        return TITLE_VERBS[random.nextInt(TITLE_VERBS.length)] + " a "
+                + TITLE_SUBJECTS[random.nextInt(TITLE_SUBJECTS.length)] + " #" + random.nextInt(100_000);
+    }
+
+    // Log-normal, median around 450 characters, clamped to the API's 20 character minimum
+    static String description(SplittableRandom random) {
+        double gaussian = gaussian(random);
+        int length = (int) Math.min(12_000, Math.max(20, Math.exp(6.1 + 0.9 * gaussian)));
+        return words(random, length);
+    }
+
+    static String bio(SplittableRandom random) {
+        return words(random, 60 + random.nextInt(600));
+    }
+
+    private static String words(SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        boolean sentenceStart = true;
+        while (text.length() < length) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (sentenceStart) {
+                text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                sentenceStart = false;
+            } else {
+                text.append(word);
+            }
+            if (random.nextInt(12) == 0) {
+                text.append(". ");
+                sentenceStart = true;
+            } else {
+                text.append(' ');
+            }
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,83 @@
+package com.freelance.platform.loadtest;
+
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.UserRepository;
+import com.freelance.platform.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@RequiredArgsConstructor
+class DataSeeder {
+
+    static final String PASSWORD = "Load-Test-Passw0rd!";
+
+    private static final BigDecimal CLIENT_BALANCE = new BigDecimal("100000000.00");
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+
+    SeededData seed(LoadTestConfig config) {
+        Random random = new Random(config.seed());
+        // One hash for every seeded account keeps seeding fast; logins still pay the full BCrypt cost
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<SeededData.Account> clients = new ArrayList<>();
+        Map<Long, List<Long>> projectIdsByClient = new HashMap<>();
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < config.clients(); i++) {
+            User client = userRepository.save(user("seed_client_" + i, User.UserRole.CLIENT, CLIENT_BALANCE, passwordHash));
+            clients.add(account(client));
+
+            List<Project> projects = new ArrayList<>();
+            for (int p = 0; p < config.projectsPerClient(); p++) {
+                projects.add(project(client, i, p, random));
+            }
+            List<Long> ids = projectRepository.saveAll(projects).stream().map(Project::getId).toList();
+            projectIdsByClient.put(client.getId(), ids);
+            projectIds.addAll(ids);
+        }
+
+        List<SeededData.Account> freelancers = new ArrayList<>();
+        for (int i = 0; i < config.freelancers(); i++) {
+            freelancers.add(account(userRepository.save(
+                    user("seed_freelancer_" + i, User.UserRole.FREELANCER, BigDecimal.ZERO, passwordHash))));
+        }
+
+        return new SeededData(clients, freelancers, projectIdsByClient, projectIds);
+    }
+
+    private SeededData.Account account(User user) {
+        return new SeededData.Account(user.getId(), user.getEmail(), jwtUtil.generateToken(user.getEmail()));
+    }
+
+    private static User user(String username, User.UserRole role, BigDecimal balance, String passwordHash) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@load.test");
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        user.setBalance(balance);
+        return user;
+    }
+
+    private static Project project(User client, int clientIndex, int projectIndex, Random random) {
+        Project project = new Project();
+        project.setTitle("Load test project " + clientIndex + "-" + projectIndex);
+        project.setDescription("Seeded project used by the load test harness. ".repeat(1 + random.nextInt(20)));
+        project.setBudget(BigDecimal.valueOf(100 + random.nextInt(5000)));
+        project.setClient(client);
+        project.setStatus(Project.ProjectStatus.OPEN);
+        return project;
+    }
+}
@@ -0,0 +1,76 @@
+package com.freelance.platform.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+class LoadTestClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final String baseUrl;
+    private final LatencyStats stats;
+
+    LoadTestClient(HttpClient httpClient, JsonMapper jsonMapper, String baseUrl, LatencyStats stats) {
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET());
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        return send(endpoint, request(path, token).POST(bodyOf(body)));
+    }
+
+    JsonNode put(String endpoint, String path, String token, Object body) {
+        return send(endpoint, request(path, token).PUT(bodyOf(body)));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) {
+        return body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body));
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean success = response.statusCode() < 400;
+            stats.record(endpoint, elapsed, success);
+            if (!success || response.body().length == 0) {
+                return null;
+            }
+            return jsonMapper.readTree(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.freelance.platform.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+record LoadTestConfig(
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Map<Scenario, Integer> mix,
+        int clients,
+        int freelancers,
+        int projectsPerClient,
+        long seed,
+        boolean bulkDataset,
+        String threading,
+        String reportFile
+) {
+
+    static final String DEFAULT_THREADING = "default";
+    static final String PLATFORM_THREADING = "platform";
+    static final String VIRTUAL_THREADING = "virtual";
+    static final String COMPARE_THREADING = "compare";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.virtualUsers", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60)),
+                Duration.ofMillis(Long.getLong("loadtest.thinkTimeMillis", 0)),
+                parseMix(System.getProperty("loadtest.mix", "browse:60,login:10,register:5,createOrder:15,completeOrder:10")),
+                Integer.getInteger("loadtest.clients", 100),
+                Integer.getInteger("loadtest.freelancers", 200),
+                Integer.getInteger("loadtest.projectsPerClient", 5),
+                Long.getLong("loadtest.seed", 42),
+                Boolean.getBoolean("loadtest.bulkDataset"),
+                System.getProperty("loadtest.threading", DEFAULT_THREADING),
+                System.getProperty("loadtest.reportFile", "target/loadtest-report.json")
+        );
+    }
+
+    List<String> threadingModes() {
+        return switch (threading) {
+            case DEFAULT_THREADING, PLATFORM_THREADING, VIRTUAL_THREADING -> List.of(threading);
+            case COMPARE_THREADING -> List.of(PLATFORM_THREADING, VIRTUAL_THREADING);
+            default -> throw new IllegalArgumentException("loadtest.threading must be one of default, platform, virtual, compare");
+        };
+    }
+
+    // Command-line arguments outrank application.properties; the runner's own come last to override the harness
+    static String[] applicationArguments(String threading, String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--reactive.server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN"));
+        if (!DEFAULT_THREADING.equals(threading)) {
+            arguments.add("--spring.threads.virtual.enabled=" + VIRTUAL_THREADING.equals(threading));
+        }
+        arguments.addAll(List.of(args));
+        return arguments.toArray(String[]::new);
+    }
+
+    private static Map<Scenario, Integer> parseMix(String spec) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one scenario with a positive weight");
+        }
+        return mix;
+    }
+}
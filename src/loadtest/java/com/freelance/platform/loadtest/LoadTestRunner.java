@@ -0,0 +1,151 @@
+package com.freelance.platform.loadtest;
+
+import com.freelance.platform.FreelancePlatformApplication;
+import com.freelance.platform.datagen.DatasetConfig;
+import com.freelance.platform.datagen.DatasetGenerator;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.UserRepository;
+import com.freelance.platform.security.JwtUtil;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Run with mvn -Ploadtest verify; -Dloadtest.threading=compare runs platform and virtual threads in turn
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        Map<String, List<LatencyStats.EndpointReport>> runs = new LinkedHashMap<>();
+        for (String threading : config.threadingModes()) {
+            System.out.printf("%n=== threading: %s ===%n", threading);
+            List<LatencyStats.EndpointReport> report = runAgainstFreshApplication(config, threading, args, jsonMapper);
+            print(report);
+            runs.put(threading, report);
+        }
+        if (runs.size() > 1) {
+            printComparison(runs);
+        }
+        write(config, runs, jsonMapper);
+    }
+
+    private static List<LatencyStats.EndpointReport> runAgainstFreshApplication(
+            LoadTestConfig config, String threading, String[] args, JsonMapper jsonMapper) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FreelancePlatformApplication.class)
+                .run(LoadTestConfig.applicationArguments(threading, args))) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            if (config.bulkDataset()) {
+                String passwordHash = context.getBean(PasswordEncoder.class).encode(DatasetGenerator.PASSWORD);
+                new DatasetGenerator(context.getBean(DataSource.class), DatasetConfig.fromSystemProperties(), passwordHash)
+                        .generate();
+            }
+            SeededData data = new DataSeeder(
+                    context.getBean(UserRepository.class),
+                    context.getBean(ProjectRepository.class),
+                    context.getBean(PasswordEncoder.class),
+                    context.getBean(JwtUtil.class)
+            ).seed(config);
+            System.out.printf("Seeded %d clients, %d freelancers, %d projects%n",
+                    data.clients().size(), data.freelancers().size(), data.projectIds().size());
+
+            return run(config, baseUrl, data, jsonMapper, new LatencyStats());
+        }
+    }
+
+    private static List<LatencyStats.EndpointReport> run(LoadTestConfig config, String baseUrl, SeededData data,
+                                                         JsonMapper jsonMapper, LatencyStats stats) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadTestClient client = new LoadTestClient(httpClient, jsonMapper, baseUrl, stats);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Scenario[] wheel = wheel(config.mix());
+
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.virtualUsers(); i++) {
+                users.submit(() -> {
+                    VirtualUser user = new VirtualUser(runId, client, data);
+                    while (System.nanoTime() < end) {
+                        wheel[ThreadLocalRandom.current().nextInt(wheel.length)].run(user);
+                        if (!config.thinkTime().isZero()) {
+                            Thread.sleep(config.thinkTime());
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+            stats.start();
+            long measureStart = System.nanoTime();
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+            stats.stop();
+            double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+            return stats.report(elapsedSeconds);
+        }
+    }
+
+    private static Scenario[] wheel(Map<Scenario, Integer> mix) {
+        List<Scenario> wheel = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        return wheel.toArray(Scenario[]::new);
+    }
+
+    private static void print(List<LatencyStats.EndpointReport> report) {
+        System.out.printf("%n%-32s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "err%", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+        for (LatencyStats.EndpointReport row : report) {
+            System.out.printf("%-32s %9d %7.2f%% %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.requests(), row.errorRate() * 100, row.throughputPerSecond(),
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.p999Millis(), row.maxMillis());
+        }
+    }
+
+    private static void printComparison(Map<String, List<LatencyStats.EndpointReport>> runs) {
+        System.out.printf("%n%-12s %9s %9s %9s %9s %9s%n", "threading", "req/s", "err%", "p50 ms", "p99 ms", "p999 ms");
+        runs.forEach((threading, report) -> {
+            LatencyStats.EndpointReport all = report.getLast();
+            System.out.printf("%-12s %9.1f %8.2f%% %9.2f %9.2f %9.2f%n", threading, all.throughputPerSecond(),
+                    all.errorRate() * 100, all.p50Millis(), all.p99Millis(), all.p999Millis());
+        });
+    }
+
+    private static void write(LoadTestConfig config, Map<String, List<LatencyStats.EndpointReport>> runs,
+                              JsonMapper jsonMapper) throws Exception {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", config);
+        document.put("runs", runs);
+        Path file = Path.of(config.reportFile());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, jsonMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(document));
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,89 @@
+package com.freelance.platform.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+enum Scenario {
+
+    REGISTER("register") {
+        @Override
+        void run(VirtualUser user) {
+            long n = REGISTRATIONS.incrementAndGet();
+            String username = "lt" + user.runId() + "_" + n;
+            user.api().post("POST /api/auth/register", "/api/auth/register", null, Map.of(
+                    "username", username,
+                    "email", username + "@load.test",
+                    "password", DataSeeder.PASSWORD,
+                    "role", "FREELANCER"));
+        }
+    },
+
+    LOGIN("login") {
+        @Override
+        void run(VirtualUser user) {
+            SeededData.Account account = user.randomAccount();
+            user.api().post("POST /api/auth/login", "/api/auth/login", null, Map.of(
+                    "email", account.email(),
+                    "password", DataSeeder.PASSWORD));
+        }
+    },
+
+    BROWSE("browse") {
+        @Override
+        void run(VirtualUser user) {
+            user.api().get("GET /api/projects", "/api/projects?status=OPEN", null);
+            user.api().get("GET /api/projects/{id}", "/api/projects/" + user.randomProjectId(), null);
+        }
+    },
+
+    CREATE_ORDER("createOrder") {
+        @Override
+        void run(VirtualUser user) {
+            SeededData.Account client = user.randomClient();
+            user.api().post("POST /api/orders", "/api/orders", client.token(), Map.of(
+                    "projectId", user.randomProjectId(client),
+                    "freelancerId", user.randomFreelancer().id(),
+                    "price", ORDER_PRICE));
+        }
+    },
+
+    COMPLETE_ORDER("completeOrder") {
+        @Override
+        void run(VirtualUser user) {
+            SeededData.Account client = user.randomClient();
+            SeededData.Account freelancer = user.randomFreelancer();
+            JsonNode order = user.api().post("POST /api/orders", "/api/orders", client.token(), Map.of(
+                    "projectId", user.randomProjectId(client),
+                    "freelancerId", freelancer.id(),
+                    "price", ORDER_PRICE));
+            if (order == null) {
+                return;
+            }
+            long orderId = order.get("id").asLong();
+            user.api().put("PUT /api/orders/{id}/status", "/api/orders/" + orderId + "/status", freelancer.token(),
+                    Map.of("status", "IN_PROGRESS"));
+            user.api().put("PUT /api/orders/{id}/complete", "/api/orders/" + orderId + "/complete", client.token(), null);
+        }
+    };
+
+    private static final String ORDER_PRICE = "10.00";
+    private static final AtomicLong REGISTRATIONS = new AtomicLong();
+
+    private final String name;
+
+    Scenario(String name) {
+        this.name = name;
+    }
+
+    abstract void run(VirtualUser user);
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + name));
+    }
+}
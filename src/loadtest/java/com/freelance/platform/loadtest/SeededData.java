@@ -0,0 +1,14 @@
+package com.freelance.platform.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+record SeededData(
+        List<Account> clients,
+        List<Account> freelancers,
+        Map<Long, List<Long>> projectIdsByClient,
+        List<Long> projectIds
+) {
+
+    record Account(Long id, String email, String token) {}
+}
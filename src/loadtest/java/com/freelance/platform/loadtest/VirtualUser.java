@@ -0,0 +1,31 @@
+package com.freelance.platform.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+record VirtualUser(String runId, LoadTestClient api, SeededData data) {
+
+    SeededData.Account randomClient() {
+        return pick(data.clients());
+    }
+
+    SeededData.Account randomFreelancer() {
+        return pick(data.freelancers());
+    }
+
+    SeededData.Account randomAccount() {
+        return ThreadLocalRandom.current().nextBoolean() ? randomClient() : randomFreelancer();
+    }
+
+    long randomProjectId() {
+        return pick(data.projectIds());
+    }
+
+    long randomProjectId(SeededData.Account client) {
+        return pick(data.projectIdsByClient().get(client.id()));
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
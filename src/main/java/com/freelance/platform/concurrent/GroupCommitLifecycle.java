@@ -0,0 +1,35 @@
+package com.freelance.platform.concurrent;
+
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+// Stops after the web server has drained in-flight requests, writing out what is already queued
+public abstract class GroupCommitLifecycle implements SmartLifecycle {
+
+    protected abstract GroupCommitWriter<?> writer();
+
+    protected Duration stopTimeout() {
+        return Duration.ofSeconds(10);
+    }
+
+    @Override
+    public final void start() {
+        writer().start();
+    }
+
+    @Override
+    public final int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public final void stop() {
+        writer().stop(stopTimeout());
+    }
+
+    @Override
+    public final boolean isRunning() {
+        return writer().isRunning();
+    }
+}
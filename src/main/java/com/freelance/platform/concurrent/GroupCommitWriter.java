@@ -0,0 +1,108 @@
+package com.freelance.platform.concurrent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// A constraint violation replays the batch one item per transaction so only the offending item fails
+@Slf4j
+public final class GroupCommitWriter<T> {
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Consumer<List<T>> persist;
+    private final BiConsumer<T, RuntimeException> failed;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+    private Thread writer;
+
+    // persist must leave no trace when it throws, since the batch may be replayed
+    public GroupCommitWriter(String name, String items, int queueSize, int batchSize, MeterRegistry registry,
+                             Consumer<List<T>> persist, BiConsumer<T, RuntimeException> failed) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.persist = persist;
+        this.failed = failed;
+        this.batchSizes = DistributionSummary.builder(name + ".batch.size")
+                .description(items + " written per transaction")
+                .register(registry);
+        Gauge.builder(name + ".queue", queue, BlockingQueue::size)
+                .description(items + " waiting for the writer")
+                .register(registry);
+    }
+
+    public boolean offer(T item) {
+        return running && queue.offer(item);
+    }
+
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name(name).daemon().start(this::drain);
+    }
+
+    // Writes out what is already queued before the thread ends
+    public void stop(Duration timeout) {
+        running = false;
+        try {
+            writer.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("{} batch failed", name, e);
+                batch.forEach(item -> failed.accept(item, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<T> batch) {
+        try {
+            persist.accept(batch);
+        } catch (DataIntegrityViolationException e) {
+            for (T item : batch) {
+                try {
+                    persist.accept(List.of(item));
+                } catch (DataIntegrityViolationException violation) {
+                    failed.accept(item, violation);
+                }
+            }
+            return;
+        }
+        batchSizes.record(batch.size());
+    }
+}
@@ -0,0 +1,115 @@
+package com.freelance.platform.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+// A missing view is registered before it loads, so views must tolerate seeing the same change twice
+public final class LoadingLru<K, V> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public LoadingLru(String name, String views, int maxSize, MeterRegistry registry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder(name).tag("result", "hit")
+                .description(views + " lookups")
+                .register(registry);
+        this.misses = Counter.builder(name).tag("result", "miss")
+                .description(views + " lookups")
+                .register(registry);
+        Gauge.builder(name + ".cached", this, LoadingLru::size)
+                .description(views + " in memory")
+                .register(registry);
+    }
+
+    public V get(K key, Supplier<V> create, BiConsumer<K, V> load) {
+        Entry<V> entry;
+        boolean owner = false;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry<>(create.get());
+                entries.put(key, entry);
+                owner = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!owner) {
+            hits.increment();
+            entry.loaded.join();
+            return entry.view;
+        }
+        misses.increment();
+        try {
+            load.accept(key, entry.view);
+            entry.loaded.complete(null);
+            return entry.view;
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+            entry.loaded.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Includes views still loading, for applying updates
+    public V getIfPresent(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            return entry != null ? entry.view : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V view;
+        private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+
+        private Entry(V view) {
+            this.view = view;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.freelance.platform.controller;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import java.lang.management.ManagementFactory;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class ApiController {
 
+    private final MeterRegistry meterRegistry;
+
     @GetMapping("/")
     public Map<String, Object> home() {
         return Map.of(
@@ -29,13 +39,25 @@ public class ApiController {
     }
 
     @GetMapping("/status")
-    public Map<String, String> status() {
-        return Map.of(
-                "status", "OK",
-                "java_version", System.getProperty("java.version"),
-                "spring_boot", "4.0.0",
-                "timestamp", LocalDateTime.now().toString()
-        );
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("status", "OK");
+        status.put("java_version", System.getProperty("java.version"));
+        status.put("spring_boot", "4.0.0");
+        status.put("timestamp", LocalDateTime.now().toString());
+        status.put("uptime_seconds", TimeUnit.MILLISECONDS.toSeconds(ManagementFactory.getRuntimeMXBean().getUptime()));
+        status.put("http_requests", Search.in(meterRegistry).name("http.server.requests").timers().stream()
+                .mapToLong(Timer::count)
+                .sum());
+        status.put("db_connections_active", gauge("hikaricp.connections.active"));
+        status.put("db_connections_pending", gauge("hikaricp.connections.pending"));
+        status.put("metrics", "/actuator/prometheus");
+        return status;
+    }
+
+    private double gauge(String name) {
+        var gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : gauge.value();
     }
 
     @GetMapping("/test")
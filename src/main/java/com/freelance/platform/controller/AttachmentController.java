@@ -0,0 +1,73 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.dto.AttachmentDTO;
+import com.freelance.platform.service.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    @GetMapping
+    public ResponseEntity<List<AttachmentDTO.AttachmentResponse>> getAttachments(@PathVariable Long projectId) {
+        return ResponseEntity.ok(attachmentService.getAttachments(projectId));
+    }
+
+    @PostMapping
+    public ResponseEntity<AttachmentDTO.AttachmentResponse> createAttachment(
+            @PathVariable Long projectId,
+            @Valid @RequestBody AttachmentDTO.CreateAttachmentRequest request) {
+        return new ResponseEntity<>(attachmentService.createAttachment(projectId, request), HttpStatus.CREATED);
+    }
+
+    // Upload state: missingChunks is what a client re-sends after a disconnect
+    @GetMapping("/{id}")
+    public ResponseEntity<AttachmentDTO.AttachmentResponse> getAttachment(@PathVariable Long projectId, @PathVariable Long id) {
+        return ResponseEntity.ok(attachmentService.getAttachment(projectId, id));
+    }
+
+    @PutMapping(value = "/{id}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<AttachmentDTO.AttachmentResponse> uploadChunk(
+            @PathVariable Long projectId,
+            @PathVariable Long id,
+            @PathVariable int index,
+            @RequestHeader(value = "Content-Digest", required = false) String contentDigest,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(attachmentService.uploadChunk(projectId, id, index,
+                request.getInputStream(), request.getContentLengthLong(), contentDigest));
+    }
+
+    @GetMapping("/{id}/content")
+    public void downloadAttachment(@PathVariable Long projectId, @PathVariable Long id,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AttachmentService.Download download = attachmentService.getDownload(projectId, id);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(download.fileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        FileResponses.serve(download.file(), download.eTag(), download.contentType(),
+                ConditionalResponses.PRIVATE, request, response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Long projectId, @PathVariable Long id) {
+        attachmentService.deleteAttachment(projectId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
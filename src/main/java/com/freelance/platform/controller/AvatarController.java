@@ -0,0 +1,59 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.service.AvatarService;
+import com.freelance.platform.service.AvatarUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/avatars")
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private static final MediaType SVG = MediaType.valueOf("image/svg+xml");
+    private static final CacheControl UPLOAD_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final AvatarService avatarService;
+    private final AvatarUploadService avatarUploadService;
+
+    @Value("${avatars.max-age:30d}")
+    private Duration maxAge;
+
+    @GetMapping("/{seed}.svg")
+    public ResponseEntity<byte[]> getAvatar(@PathVariable String seed, WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        String eTag = avatarService.getETag(seed);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(SVG)
+                .body(avatarService.getAvatar(seed).svg());
+    }
+
+    // File names are content hashes, so an uploaded thumbnail never changes under its URL
+    @GetMapping("/uploads/{fileName}")
+    public void getUploadedAvatar(@PathVariable String fileName, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        Path file = avatarUploadService.resolve(fileName);
+        MediaType contentType = fileName.endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+        FileResponses.serve(file, "\"" + fileName + "\"", contentType, UPLOAD_CACHE, request, response);
+    }
+}
@@ -0,0 +1,29 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.messaging.ChatTickets;
+import com.freelance.platform.security.JwtUtil;
+import com.freelance.platform.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Exchanges the caller's JWT for a single-use ticket to open /ws/messages?ticket=...
+@RestController
+@RequestMapping("/api/chat/tickets")
+@RequiredArgsConstructor
+public class ChatTicketController {
+
+    private final ChatTickets chatTickets;
+    private final UserService userService;
+    private final JwtUtil jwtUtil;
+
+    @PostMapping
+    public ResponseEntity<MessageDTO.ChatTicketResponse> issueTicket(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        String token = authorization.substring("Bearer ".length());
+        return ResponseEntity.ok(chatTickets.issue(userService.getCurrentUser(),
+                jwtUtil.extractExpiration(token).toInstant()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.freelance.platform.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// On an ETag match the body supplier is never invoked; the negotiated format is folded into the ETag
+final class ConditionalResponses {
+
+    static final CacheControl PUBLIC = CacheControl.noCache();
+    static final CacheControl PRIVATE = CacheControl.noCache().cachePrivate();
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final List<MediaType> PRODUCIBLE = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE);
+
+    private ConditionalResponses() {
+    }
+
+    static String forFields(String fieldsKey, String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-f" + fieldsKey + "\"";
+    }
+
+    static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String eTag, CacheControl cacheControl, Supplier<T> body) {
+        MediaType format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (format == null) {
+            // Nothing we can write is acceptable; leave the 406 to the message converters
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(body.get());
+        }
+        String formatETag = format.equals(MediaType.APPLICATION_JSON)
+                ? eTag
+                : eTag.substring(0, eTag.length() - 1) + "-" + format.getSubtype() + "\"";
+        if (request.checkNotModified(formatETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(formatETag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(formatETag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT)
+                .contentType(format).body(body.get());
+    }
+
+    private static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType producible : PRODUCIBLE) {
+            double quality = 0;
+            for (MediaType type : accepted) {
+                if (type.includes(producible)) {
+                    quality = Math.max(quality, type.getQualityValue());
+                }
+            }
+            if (quality > bestQuality) {
+                best = producible;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,33 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.service.MessageService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Live delivery is over the /ws/messages socket; these endpoints serve history and a fallback for sending
+@RestController
+@RequestMapping("/api/orders/{orderId}/messages")
+@RequiredArgsConstructor
+public class MessageController {
+
+    private final MessageService messageService;
+
+    @GetMapping
+    public ResponseEntity<MessageDTO.MessagePage> getMessages(
+            @PathVariable Long orderId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(messageService.getMessages(orderId, before, limit));
+    }
+
+    @PostMapping
+    public ResponseEntity<MessageDTO.MessageResponse> sendMessage(
+            @PathVariable Long orderId,
+            @Valid @RequestBody MessageDTO.SendMessageRequest request) {
+        return new ResponseEntity<>(messageService.sendAsCurrentUser(orderId, request), HttpStatus.CREATED);
+    }
+}
@@ -0,0 +1,37 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.dto.NotificationDTO;
+import com.freelance.platform.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping
+    public ResponseEntity<NotificationDTO.NotificationPage> getNotifications(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(notificationService.getNotifications(cursor, limit));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationDTO.UnreadCount> getUnreadCount() {
+        return ResponseEntity.ok(notificationService.getUnreadCount());
+    }
+
+    @PostMapping("/{id}/read")
+    public ResponseEntity<NotificationDTO.UnreadCount> markRead(@PathVariable Long id) {
+        return ResponseEntity.ok(notificationService.markRead(id));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<NotificationDTO.UnreadCount> markAllRead() {
+        return ResponseEntity.ok(notificationService.markAllRead());
+    }
+}
@@ -4,10 +4,13 @@ import com.freelance.platform.dto.OrderDTO;
 import com.freelance.platform.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,8 +21,17 @@ public class OrderController {
     private final OrderService orderService;
 
     @GetMapping
-    public ResponseEntity<List<OrderDTO.OrderListResponse>> getCurrentUserOrders() {
-        return ResponseEntity.ok(orderService.getCurrentUserOrders());
+    public ResponseEntity<List<OrderDTO.OrderListResponse>> getCurrentUserOrders(WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, orderService.getCurrentUserOrdersETag(),
+                ConditionalResponses.PRIVATE, orderService::getCurrentUserOrders);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<OrderDTO.OrderChangesResponse> getOrderChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getCurrentUserChangesSince(since, cursor, limit));
     }
 
     @GetMapping("/{id}")
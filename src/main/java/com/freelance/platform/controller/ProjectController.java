@@ -3,13 +3,21 @@ package com.freelance.platform.controller;
 import com.freelance.platform.dto.ProjectDTO;
 import com.freelance.platform.entity.Project;
 import com.freelance.platform.service.ProjectService;
+import com.freelance.platform.stream.ProjectStreamHub;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -18,32 +26,80 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectStreamHub projectStreamHub;
 
     @GetMapping
     public ResponseEntity<List<ProjectDTO.ProjectListResponse>> getAllProjects(
-            @RequestParam(required = false) Project.ProjectStatus status) {
-        
-        List<ProjectDTO.ProjectListResponse> projects;
-        
-        if (status != null) {
-            projects = projectService.getProjectsByStatus(status);
-        } else {
-            projects = projectService.getAllProjects();
+            @RequestParam(required = false) Project.ProjectStatus status,
+            WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, projectService.getProjectsETag(status), ConditionalResponses.PUBLIC,
+                () -> status != null ? projectService.getProjectsByStatus(status) : projectService.getAllProjects());
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllProjectFields(
+            @RequestParam(required = false) Project.ProjectStatus status,
+            @RequestParam String fields,
+            WebRequest request) {
+        String eTag = ConditionalResponses.forFields(projectService.getProjectListFieldsKey(fields), projectService.getProjectsETag(status));
+        return ConditionalResponses.ifNoneMatch(request, eTag, ConditionalResponses.PUBLIC,
+                () -> projectService.getProjectFields(status, fields));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjects(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = projectStreamHub.subscribe(lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
         }
-        
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ProjectDTO.ProjectChangesResponse> getProjectChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getChangesSince(since, cursor, limit));
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<ProjectDTO.ProjectListResponse>> getCurrentUserProjects() {
-        List<ProjectDTO.ProjectListResponse> projects = projectService.getCurrentUserProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<ProjectDTO.ProjectListResponse>> getCurrentUserProjects(WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, projectService.getCurrentUserProjectsETag(),
+                ConditionalResponses.PRIVATE, projectService::getCurrentUserProjects);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO.ProjectResponse> getProjectById(@PathVariable Long id) {
-        ProjectDTO.ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectDTO.ProjectResponse> getProjectById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, projectService.getProjectETag(id), ConditionalResponses.PUBLIC,
+                () -> projectService.getProjectById(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getProjectFieldsById(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            WebRequest request) {
+        String eTag = ConditionalResponses.forFields(projectService.getProjectFieldsKey(fields), projectService.getProjectETag(id));
+        return ConditionalResponses.ifNoneMatch(request, eTag, ConditionalResponses.PUBLIC,
+                () -> projectService.getProjectFieldsById(id, fields));
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<ProjectDTO.SimilarProjectResponse>> getSimilarProjects(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getSimilarProjects(id, limit));
+    }
+
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<ProjectDTO.FreelancerMatchResponse>> getFreelancerMatches(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getFreelancerMatches(id, limit));
     }
 
     @PostMapping
@@ -0,0 +1,62 @@
+package com.freelance.platform.controller;
+
+import com.freelance.platform.dto.OrderDTO;
+import com.freelance.platform.dto.ProposalDTO;
+import com.freelance.platform.service.ProposalService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ProposalController {
+
+    private final ProposalService proposalService;
+
+    // Pending proposals best first; pass the returned nextCursor to fetch the following page
+    @GetMapping("/projects/{projectId}/proposals")
+    public ResponseEntity<ProposalDTO.ProposalPage> getRankedProposals(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(proposalService.getRankedProposals(projectId, cursor, limit));
+    }
+
+    @PostMapping("/projects/{projectId}/proposals")
+    public ResponseEntity<ProposalDTO.ProposalResponse> submitProposal(
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProposalDTO.CreateProposalRequest request) {
+        return new ResponseEntity<>(proposalService.submitProposal(projectId, request), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/projects/{projectId}/proposals/{id}")
+    public ResponseEntity<ProposalDTO.ProposalResponse> getProposal(@PathVariable Long projectId, @PathVariable Long id) {
+        return ResponseEntity.ok(proposalService.getProposal(projectId, id));
+    }
+
+    @PostMapping("/projects/{projectId}/proposals/{id}/accept")
+    public ResponseEntity<OrderDTO.OrderResponse> acceptProposal(@PathVariable Long projectId, @PathVariable Long id) {
+        return new ResponseEntity<>(proposalService.acceptProposal(projectId, id), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/projects/{projectId}/proposals/{id}/reject")
+    public ResponseEntity<ProposalDTO.ProposalResponse> rejectProposal(@PathVariable Long projectId, @PathVariable Long id) {
+        return ResponseEntity.ok(proposalService.rejectProposal(projectId, id));
+    }
+
+    @DeleteMapping("/projects/{projectId}/proposals/{id}")
+    public ResponseEntity<Void> withdrawProposal(@PathVariable Long projectId, @PathVariable Long id) {
+        proposalService.withdrawProposal(projectId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/proposals/me")
+    public ResponseEntity<List<ProposalDTO.ProposalResponse>> getCurrentUserProposals() {
+        return ResponseEntity.ok(proposalService.getCurrentUserProposals());
+    }
+}
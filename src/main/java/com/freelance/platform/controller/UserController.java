@@ -1,13 +1,19 @@
 package com.freelance.platform.controller;
 
 import com.freelance.platform.dto.UserDTO;
+import com.freelance.platform.service.AvatarUploadService;
 import com.freelance.platform.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -15,21 +21,42 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final AvatarUploadService avatarUploadService;
 
     @GetMapping
-    public ResponseEntity<List<UserDTO.UserListResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<UserDTO.UserListResponse>> getAllUsers(WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, userService.getAllUsersETag(),
+                ConditionalResponses.PRIVATE, userService::getAllUsers);
     }
 
 
     @GetMapping("/me")
-    public ResponseEntity<UserDTO.UserProfileResponse> getCurrentUser() {
-        return ResponseEntity.ok(userService.getCurrentUserProfile());
+    public ResponseEntity<UserDTO.UserProfileResponse> getCurrentUser(WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, userService.getCurrentUserETag(),
+                ConditionalResponses.PRIVATE, userService::getCurrentUserProfile);
+    }
+
+    @GetMapping(value = "/me", params = "fields")
+    public ResponseEntity<Map<String, Object>> getCurrentUserFields(@RequestParam String fields, WebRequest request) {
+        String eTag = ConditionalResponses.forFields(userService.getProfileFieldsKey(fields), userService.getCurrentUserETag());
+        return ConditionalResponses.ifNoneMatch(request, eTag, ConditionalResponses.PRIVATE,
+                () -> userService.getCurrentUserProfileFields(fields));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getUserFieldsById(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            WebRequest request) {
+        String eTag = ConditionalResponses.forFields(userService.getProfileFieldsKey(fields), userService.getUserETag(id));
+        return ConditionalResponses.ifNoneMatch(request, eTag, ConditionalResponses.PRIVATE,
+                () -> userService.getUserFieldsById(id, fields));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO.UserProfileResponse> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserDTO.UserProfileResponse> getUserById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ifNoneMatch(request, userService.getUserETag(id),
+                ConditionalResponses.PRIVATE, () -> userService.getUserById(id));
     }
 
     @PutMapping("/me")
@@ -39,6 +66,13 @@ public class UserController {
     }
 
 
+    // Raw image body rather than multipart, so it can be streamed to disk without a parsing/buffering step
+    @PostMapping(value = "/me/avatar", consumes = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<UserDTO.UserProfileResponse> uploadAvatar(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(avatarUploadService.uploadForCurrentUser(request.getInputStream(), request.getContentLengthLong()));
+    }
+
+
     @PutMapping("/{id}")
     public ResponseEntity<UserDTO.UserProfileResponse> updateUserById(
             @PathVariable Long id,
@@ -0,0 +1,41 @@
+package com.freelance.platform.dto;
+
+import com.freelance.platform.entity.ProjectAttachment;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AttachmentDTO {
+
+    public record CreateAttachmentRequest(
+            @NotBlank(message = "File name is required")
+            @Size(max = 255, message = "File name must be at most 255 characters")
+            String fileName,
+
+            @Size(max = 100, message = "Content type must be at most 100 characters")
+            String contentType,
+
+            @NotNull(message = "Size is required")
+            @Positive(message = "Size must be positive")
+            Long size
+    ) {}
+
+    public record AttachmentResponse(
+            Long id,
+            Long projectId,
+            String fileName,
+            String contentType,
+            long size,
+            int chunkSize,
+            int chunkCount,
+            ProjectAttachment.AttachmentStatus status,
+            List<Integer> missingChunks,
+            String sha256,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.freelance.platform.dto;
+
+import java.util.List;
+
+public class DashboardDTO {
+
+    public record DashboardResponse(
+            UserDTO.UserProfileResponse profile,
+            List<ProjectDTO.ProjectListResponse> openProjects,
+            List<ProjectDTO.ProjectListResponse> myProjects,
+            List<OrderDTO.OrderListResponse> orders
+    ) {}
+}
@@ -0,0 +1,36 @@
+package com.freelance.platform.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MessageDTO {
+
+    public record SendMessageRequest(
+            @NotBlank(message = "Message must not be empty")
+            @Size(max = 2000, message = "Message must not exceed 2000 characters")
+            String body
+    ) {}
+
+    public record MessageResponse(
+            Long id,
+            Long orderId,
+            Long senderId,
+            String senderUsername,
+            String body,
+            LocalDateTime createdAt
+    ) {}
+
+    public record MessagePage(
+            List<MessageResponse> items,
+            boolean hasMore
+    ) {}
+
+    // Valid once, for expiresIn seconds, as the ticket query parameter of /ws/messages
+    public record ChatTicketResponse(
+            String ticket,
+            long expiresIn
+    ) {}
+}
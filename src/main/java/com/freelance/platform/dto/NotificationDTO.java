@@ -0,0 +1,29 @@
+package com.freelance.platform.dto;
+
+import com.freelance.platform.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class NotificationDTO {
+
+    public record NotificationResponse(
+            Long id,
+            Notification.NotificationType type,
+            String message,
+            Long orderId,
+            Long projectId,
+            boolean read,
+            LocalDateTime createdAt
+    ) {}
+
+    public record NotificationPage(
+            List<NotificationResponse> items,
+            Long nextCursor,
+            long unread
+    ) {}
+
+    public record UnreadCount(
+            long unread
+    ) {}
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class OrderDTO {
 
@@ -50,4 +51,11 @@ public class OrderDTO {
             Order.OrderStatus status,
             LocalDateTime createdAt
     ) {}
-}
\ No newline at end of file
+
+    public record OrderChangesResponse(
+            LocalDateTime watermark,
+            List<OrderListResponse> updated,
+            List<Long> deleted,
+            String nextCursor
+    ) {}
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ProjectDTO {
 
@@ -56,4 +57,28 @@ public class ProjectDTO {
             Project.ProjectStatus status,
             LocalDateTime createdAt
     ) {}
+
+    public record SimilarProjectResponse(
+            Long id,
+            String title,
+            String budget,
+            String clientUsername,
+            LocalDateTime createdAt,
+            double similarity
+    ) {}
+
+    public record FreelancerMatchResponse(
+            Long freelancerId,
+            String username,
+            String avatarUrl,
+            int completedOrders,
+            double score
+    ) {}
+
+    public record ProjectChangesResponse(
+            LocalDateTime watermark,
+            List<ProjectListResponse> updated,
+            List<Long> deleted,
+            String nextCursor
+    ) {}
 }
@@ -0,0 +1,53 @@
+package com.freelance.platform.dto;
+
+import com.freelance.platform.entity.Proposal;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ProposalDTO {
+
+    public record CreateProposalRequest(
+            @NotNull(message = "Price is required")
+            @DecimalMin(value = "1.00", message = "Price must be at least 1.00")
+            BigDecimal price,
+
+            @Size(max = 5000, message = "Cover letter must not exceed 5000 characters")
+            String coverLetter
+    ) {}
+
+    public record ProposalResponse(
+            Long id,
+            Long projectId,
+            String projectTitle,
+            Long freelancerId,
+            String freelancerUsername,
+            String price,
+            String coverLetter,
+            double rating,
+            Proposal.ProposalStatus status,
+            LocalDateTime createdAt
+    ) {}
+
+    public record RankedProposalResponse(
+            Long id,
+            Long freelancerId,
+            String freelancerUsername,
+            String freelancerAvatarUrl,
+            String price,
+            String coverLetterPreview,
+            double rating,
+            double score,
+            LocalDateTime createdAt
+    ) {}
+
+    public record ProposalPage(
+            List<RankedProposalResponse> items,
+            String nextCursor,
+            int total
+    ) {}
+}
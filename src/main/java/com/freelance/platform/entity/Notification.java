@@ -0,0 +1,58 @@
+package com.freelance.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// Plain ids rather than relations so a notification outlives what it is about
+@Entity
+@Table(name = "notifications", indexes = @Index(name = "idx_notifications_recipient_id", columnList = "recipient_id, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 100)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipient_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    private Long orderId;
+
+    private Long projectId;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    private LocalDateTime readAt;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum NotificationType {
+        ORDER_CREATED,
+        ORDER_STATUS_CHANGED,
+        ORDER_COMPLETED,
+        ORDER_CANCELLED,
+        PROJECT_CLOSED
+    }
+}
@@ -9,7 +9,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_orders_client_updated_at", columnList = "client_id, updated_at, id"),
+        @Index(name = "idx_orders_freelancer_updated_at", columnList = "freelancer_id, updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_projects_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_projects_client_updated_at", columnList = "client_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
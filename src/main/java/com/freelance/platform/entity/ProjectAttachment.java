@@ -0,0 +1,107 @@
+package com.freelance.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// receivedChunks is a bitmap of the chunks already on disk, which is all a client needs to resume
+@Entity
+@Table(name = "project_attachments", indexes = @Index(name = "idx_project_attachments_project", columnList = "project_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int chunkSize;
+
+    @Column(nullable = false)
+    private int chunkCount;
+
+    @Column(nullable = false, length = 8192)
+    private byte[] receivedChunks;
+
+    @Column(nullable = false)
+    private int receivedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AttachmentStatus status = AttachmentStatus.UPLOADING;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isChunkReceived(int index) {
+        return BitSet.valueOf(receivedChunks).get(index);
+    }
+
+    public List<Integer> getMissingChunks() {
+        BitSet received = BitSet.valueOf(receivedChunks);
+        List<Integer> missing = new ArrayList<>(chunkCount - receivedCount);
+        for (int i = received.nextClearBit(0); i < chunkCount; i = received.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+
+    public boolean markChunkReceived(int index) {
+        BitSet received = BitSet.valueOf(receivedChunks);
+        if (received.get(index)) {
+            return false;
+        }
+        received.set(index);
+        receivedChunks = Arrays.copyOf(received.toByteArray(), (chunkCount + 7) / 8);
+        receivedCount++;
+        return true;
+    }
+
+    public enum AttachmentStatus {
+        UPLOADING,
+        COMPLETE
+    }
+}
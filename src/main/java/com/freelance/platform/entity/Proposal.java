@@ -0,0 +1,76 @@
+package com.freelance.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Pooled sequence ids rather than identity so the intake writer can batch its inserts
+@Entity
+@Table(name = "proposals",
+        uniqueConstraints = @UniqueConstraint(name = "uk_proposals_project_freelancer", columnNames = {"project_id", "freelancer_id"}),
+        indexes = @Index(name = "idx_proposals_freelancer", columnList = "freelancer_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Proposal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proposals_seq")
+    @SequenceGenerator(name = "proposals_seq", sequenceName = "proposals_seq", allocationSize = 100)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "freelancer_id", nullable = false)
+    private User freelancer;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal price;
+
+    @Column(columnDefinition = "TEXT")
+    private String coverLetter;
+
+    // Freelancer rating and ranking score as of submission; the ranked view is rebuilt from these columns
+    @Column(nullable = false)
+    private double rating;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProposalStatus status = ProposalStatus.PENDING;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum ProposalStatus {
+        PENDING,
+        ACCEPTED,
+        REJECTED,
+        WITHDRAWN
+    }
+}
@@ -0,0 +1,7 @@
+package com.freelance.platform.exception;
+
+public class GoneException extends RuntimeException {
+    public GoneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.freelance.platform.messaging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.freelance.platform.dto.MessageDTO;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatFrame(
+        String type,
+        Long orderId,
+        String body,
+        String clientMessageId,
+        MessageDTO.MessageResponse message,
+        String error
+) {
+
+    static final String SEND = "send";
+
+    static ChatFrame message(MessageDTO.MessageResponse message, String clientMessageId) {
+        return new ChatFrame("message", null, null, clientMessageId, message, null);
+    }
+
+    static ChatFrame error(String clientMessageId, String error) {
+        return new ChatFrame("error", null, null, clientMessageId, null, error);
+    }
+}
@@ -0,0 +1,197 @@
+package com.freelance.platform.messaging;
+
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.repository.OrderParticipants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Each connection is written by its own virtual thread from a bounded queue; overflow closes it with 1013
+@Slf4j
+@Component
+public class ChatHub implements SmartLifecycle {
+
+    private final JsonMapper jsonMapper;
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Token expired");
+
+    private final ConcurrentHashMap<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final int bufferSize;
+    private final int maxConnections;
+    private final Duration heartbeatInterval;
+    private final Counter droppedConnections;
+    private volatile boolean running;
+
+    public ChatHub(JsonMapper jsonMapper,
+                   MeterRegistry registry,
+                   @Value("${messaging.connection-buffer:256}") int bufferSize,
+                   @Value("${messaging.max-connections:50000}") int maxConnections,
+                   @Value("${messaging.heartbeat-interval:25s}") Duration heartbeatInterval) {
+        this.jsonMapper = jsonMapper;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.heartbeatInterval = heartbeatInterval;
+        this.droppedConnections = Counter.builder("messaging.connections.dropped")
+                .description("Chat sockets closed because their outbound queue overflowed")
+                .register(registry);
+        Gauge.builder("messaging.connections", connectionCount, AtomicInteger::get)
+                .description("Open chat sockets")
+                .register(registry);
+    }
+
+    public Connection open(WebSocketSession session, Long userId, Instant expiresAt) {
+        if (!running || connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            return null;
+        }
+        // Linked rather than array-backed: most sockets are idle and should not hold a preallocated buffer
+        Connection connection = new Connection(session, userId, expiresAt, new LinkedBlockingQueue<>(bufferSize));
+        connections.compute(userId, (id, userConnections) -> {
+            Set<Connection> updated = userConnections != null ? userConnections : ConcurrentHashMap.newKeySet();
+            updated.add(connection);
+            return updated;
+        });
+        connection.thread = Thread.ofVirtual().name("chat-", session.hashCode()).start(connection);
+        return connection;
+    }
+
+    public void deliver(MessageDTO.MessageResponse message, OrderParticipants participants, String clientMessageId) {
+        TextMessage frame = frame(ChatFrame.message(message, clientMessageId));
+        offer(participants.clientId(), frame);
+        offer(participants.freelancerId(), frame);
+    }
+
+    public void sendError(Connection connection, String clientMessageId, String error) {
+        connection.offer(frame(ChatFrame.error(clientMessageId, error)));
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        connections.values().forEach(set -> set.forEach(connection -> connection.close(CloseStatus.GOING_AWAY)));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void offer(long userId, TextMessage frame) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.forEach(connection -> connection.offer(frame));
+        }
+    }
+
+    private TextMessage frame(ChatFrame frame) {
+        return new TextMessage(jsonMapper.writeValueAsString(frame));
+    }
+
+    public final class Connection implements Runnable {
+
+        private final WebSocketSession session;
+        private final Long userId;
+        private final Instant expiresAt;
+        private final BlockingQueue<WebSocketMessage<?>> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread thread;
+        private volatile CloseStatus closeStatus = CloseStatus.NORMAL;
+
+        private Connection(WebSocketSession session, Long userId, Instant expiresAt,
+                           BlockingQueue<WebSocketMessage<?>> queue) {
+            this.session = session;
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+            this.queue = queue;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed.get()) {
+                    // Waits no longer than the token's remaining lifetime, so the socket closes on time
+                    long untilExpiry = Duration.between(Instant.now(), expiresAt).toMillis();
+                    if (untilExpiry <= 0) {
+                        close(TOKEN_EXPIRED);
+                        break;
+                    }
+                    WebSocketMessage<?> next = queue.poll(Math.min(heartbeatInterval.toMillis(), untilExpiry),
+                            TimeUnit.MILLISECONDS);
+                    if (next == null && !Instant.now().isBefore(expiresAt)) {
+                        continue;
+                    }
+                    // Pings keep intermediaries from dropping idle sockets and the pongs count as activity
+                    session.sendMessage(next != null ? next : new PingMessage());
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Chat connection closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close(CloseStatus.NORMAL);
+                try {
+                    session.close(closeStatus);
+                } catch (IOException e) {
+                    log.debug("Could not close chat connection: {}", e.getMessage());
+                }
+            }
+        }
+
+        private void offer(WebSocketMessage<?> message) {
+            if (!closed.get() && !queue.offer(message)) {
+                droppedConnections.increment();
+                close(CloseStatus.SERVICE_OVERLOAD);
+            }
+        }
+
+        // The socket itself is closed by the connection's own thread, never by a publisher
+        public void close(CloseStatus status) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            closeStatus = status;
+            connections.computeIfPresent(userId, (id, userConnections) -> {
+                userConnections.remove(this);
+                return userConnections.isEmpty() ? null : userConnections;
+            });
+            connectionCount.decrementAndGet();
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.freelance.platform.messaging;
+
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Browsers cannot set headers on a WebSocket handshake, so a JWT is exchanged for a short-lived single-use ticket
+@Component
+public class ChatTickets {
+
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    // Every ticket gets the same ttl, so issue order is expiry order and a sweep only walks the expired head
+    private final ConcurrentLinkedQueue<Issued> issued = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Long, Deque<String>> outstanding = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxPerUser;
+
+    public ChatTickets(@Value("${messaging.ticket-ttl:30s}") Duration ttl,
+                       @Value("${messaging.max-tickets-per-user:5}") int maxPerUser) {
+        this.ttl = ttl;
+        this.maxPerUser = maxPerUser;
+    }
+
+    record Ticket(Long userId, String username, Instant tokenExpiresAt, Instant expiresAt) {}
+
+    private record Issued(String ticket, Long userId, Instant expiresAt) {}
+
+    public MessageDTO.ChatTicketResponse issue(User user, Instant tokenExpiresAt) {
+        Instant now = Instant.now();
+        sweep(now);
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant expiresAt = now.plus(ttl);
+        tickets.put(ticket, new Ticket(user.getId(), user.getUsername(), tokenExpiresAt, expiresAt));
+        issued.add(new Issued(ticket, user.getId(), expiresAt));
+        // A user asking for more than the cap loses their oldest unredeemed ticket
+        outstanding.compute(user.getId(), (id, held) -> {
+            Deque<String> userTickets = held == null ? new ArrayDeque<>() : held;
+            userTickets.addLast(ticket);
+            if (userTickets.size() > maxPerUser) {
+                tickets.remove(userTickets.removeFirst());
+            }
+            return userTickets;
+        });
+        return new MessageDTO.ChatTicketResponse(ticket, ttl.toSeconds());
+    }
+
+    Optional<Ticket> redeem(String ticket) {
+        if (ticket == null) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        Ticket redeemed = tickets.remove(ticket);
+        if (redeemed == null) {
+            return Optional.empty();
+        }
+        forget(redeemed.userId(), ticket);
+        return Optional.of(redeemed)
+                .filter(valid -> valid.expiresAt().isAfter(now) && valid.tokenExpiresAt().isAfter(now));
+    }
+
+    private void sweep(Instant now) {
+        for (Issued head = issued.peek(); head != null && !head.expiresAt().isAfter(now); head = issued.peek()) {
+            if (issued.remove(head) && tickets.remove(head.ticket()) != null) {
+                forget(head.userId(), head.ticket());
+            }
+        }
+    }
+
+    private void forget(Long userId, String ticket) {
+        outstanding.computeIfPresent(userId, (id, userTickets) -> {
+            userTickets.remove(ticket);
+            return userTickets.isEmpty() ? null : userTickets;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.freelance.platform.messaging;
+
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import com.freelance.platform.exception.UnauthorizedException;
+import com.freelance.platform.service.MessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+@Component
+@RequiredArgsConstructor
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CONNECTION = "chatConnection";
+
+    private final ChatHub hub;
+    private final MessageService messageService;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        ChatHub.Connection connection = hub.open(session,
+                (Long) session.getAttributes().get(TicketHandshakeInterceptor.USER_ID),
+                (Instant) session.getAttributes().get(TicketHandshakeInterceptor.EXPIRES_AT));
+        if (connection == null) {
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        session.getAttributes().put(CONNECTION, connection);
+    }
+
+    // Only enqueues: the stored message comes back to the sender through the same fan-out
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage textMessage) {
+        ChatHub.Connection connection = (ChatHub.Connection) session.getAttributes().get(CONNECTION);
+        if (connection == null) {
+            return;
+        }
+        ChatFrame frame;
+        try {
+            frame = jsonMapper.readValue(textMessage.getPayload(), ChatFrame.class);
+        } catch (JacksonException e) {
+            hub.sendError(connection, null, "Malformed frame");
+            return;
+        }
+        if (!ChatFrame.SEND.equals(frame.type()) || frame.orderId() == null) {
+            hub.sendError(connection, frame.clientMessageId(), "Expected a send frame with an orderId");
+            return;
+        }
+
+        try {
+            messageService.send(frame.orderId(), connection.getUserId(),
+                            (String) session.getAttributes().get(TicketHandshakeInterceptor.USERNAME),
+                            frame.body(), frame.clientMessageId())
+                    .whenComplete((message, error) -> {
+                        if (error != null) {
+                            hub.sendError(connection, frame.clientMessageId(), errorMessage(error));
+                        }
+                    });
+        } catch (BadRequestException | UnauthorizedException | ResourceNotFoundException
+                 | ServiceUnavailableException e) {
+            hub.sendError(connection, frame.clientMessageId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        ChatHub.Connection connection = (ChatHub.Connection) session.getAttributes().get(CONNECTION);
+        if (connection != null) {
+            connection.close(status);
+        }
+    }
+
+    private static String errorMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof ResourceNotFoundException ? cause.getMessage() : "Message could not be sent";
+    }
+}
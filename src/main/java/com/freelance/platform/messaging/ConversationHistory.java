@@ -0,0 +1,164 @@
+package com.freelance.platform.messaging;
+
+import com.freelance.platform.concurrent.LoadingLru;
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.entity.Message;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.repository.MessageRepository;
+import com.freelance.platform.repository.OrderParticipants;
+import com.freelance.platform.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ConversationHistory {
+
+    private final OrderRepository orderRepository;
+    private final MessageRepository messageRepository;
+    private final int historySize;
+    private final LoadingLru<Long, Conversation> conversations;
+
+    public ConversationHistory(OrderRepository orderRepository,
+                               MessageRepository messageRepository,
+                               MeterRegistry registry,
+                               @Value("${messaging.history-size:50}") int historySize,
+                               @Value("${messaging.max-conversations:20000}") int maxConversations) {
+        this.orderRepository = orderRepository;
+        this.messageRepository = messageRepository;
+        this.historySize = historySize;
+        this.conversations = new LoadingLru<>("messaging.conversations", "Conversation histories", maxConversations,
+                registry);
+    }
+
+    public OrderParticipants participants(Long orderId) {
+        return conversation(orderId).participants;
+    }
+
+    // Null when the ring cannot answer and the caller has to go to the database
+    public MessageDTO.MessagePage latest(Long orderId, int limit) {
+        return conversation(orderId).ring.latest(limit);
+    }
+
+    // Called by the message writer after the message's batch has committed
+    void append(MessageDTO.MessageResponse message) {
+        Conversation conversation = conversations.getIfPresent(message.orderId());
+        if (conversation != null) {
+            conversation.ring.append(message);
+        }
+    }
+
+    private Conversation conversation(Long orderId) {
+        return conversations.get(orderId, () -> new Conversation(new MessageRing(historySize)), this::load);
+    }
+
+    private void load(Long orderId, Conversation conversation) {
+        conversation.participants = orderRepository.findParticipantsById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
+        List<Message> latest = messageRepository.findPage(orderId, Long.MAX_VALUE, Limit.of(historySize));
+        conversation.ring.merge(latest.stream().map(ConversationHistory::toResponse).toList(),
+                latest.size() == historySize);
+    }
+
+    public static MessageDTO.MessageResponse toResponse(Message message) {
+        return new MessageDTO.MessageResponse(
+                message.getId(),
+                message.getOrder().getId(),
+                message.getSender().getId(),
+                message.getSender().getUsername(),
+                message.getBody(),
+                message.getCreatedAt()
+        );
+    }
+
+    private static final class Conversation {
+
+        private final MessageRing ring;
+        private volatile OrderParticipants participants;
+
+        private Conversation(MessageRing ring) {
+            this.ring = ring;
+        }
+    }
+
+    private static final class MessageRing {
+
+        private final MessageDTO.MessageResponse[] slots;
+        private final ReentrantLock lock = new ReentrantLock();
+        private int head;
+        private int size;
+        private boolean truncated;
+
+        private MessageRing(int capacity) {
+            this.slots = new MessageDTO.MessageResponse[capacity];
+        }
+
+        private void append(MessageDTO.MessageResponse message) {
+            lock.lock();
+            try {
+                if (size > 0 && newest().id() >= message.id()) {
+                    return;
+                }
+                slots[(head + size) % slots.length] = message;
+                if (size < slots.length) {
+                    size++;
+                } else {
+                    head = (head + 1) % slots.length;
+                    truncated = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Combines a database read with whatever the writer appended meanwhile
+        private void merge(List<MessageDTO.MessageResponse> loaded, boolean olderExist) {
+            lock.lock();
+            try {
+                TreeMap<Long, MessageDTO.MessageResponse> byId = new TreeMap<>();
+                loaded.forEach(message -> byId.put(message.id(), message));
+                for (int i = 0; i < size; i++) {
+                    MessageDTO.MessageResponse message = slots[(head + i) % slots.length];
+                    byId.put(message.id(), message);
+                }
+                List<MessageDTO.MessageResponse> merged = new ArrayList<>(byId.values());
+                int from = Math.max(0, merged.size() - slots.length);
+                truncated = olderExist || from > 0;
+                head = 0;
+                size = merged.size() - from;
+                for (int i = 0; i < size; i++) {
+                    slots[i] = merged.get(from + i);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private MessageDTO.MessagePage latest(int limit) {
+            lock.lock();
+            try {
+                if (limit > size && truncated) {
+                    return null;
+                }
+                int count = Math.min(limit, size);
+                List<MessageDTO.MessageResponse> items = new ArrayList<>(count);
+                for (int i = size - count; i < size; i++) {
+                    items.add(slots[(head + i) % slots.length]);
+                }
+                return new MessageDTO.MessagePage(items, count < size || truncated);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private MessageDTO.MessageResponse newest() {
+            return slots[(head + size - 1) % slots.length];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.freelance.platform.messaging;
+
+import com.freelance.platform.concurrent.GroupCommitLifecycle;
+import com.freelance.platform.concurrent.GroupCommitWriter;
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.entity.Message;
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import com.freelance.platform.repository.OrderParticipants;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class MessageIntake extends GroupCommitLifecycle {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ConversationHistory history;
+    private final ChatHub hub;
+    private final GroupCommitWriter<Pending> writer;
+    private final int batchSize;
+
+    public MessageIntake(EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         ConversationHistory history,
+                         ChatHub hub,
+                         MeterRegistry registry,
+                         @Value("${messaging.intake.queue-size:20000}") int queueSize,
+                         @Value("${messaging.intake.batch-size:500}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.history = history;
+        this.hub = hub;
+        this.writer = new GroupCommitWriter<>("messaging.intake", "Messages", queueSize, batchSize, registry,
+                this::persist, MessageIntake::failed);
+        this.batchSize = batchSize;
+    }
+
+    public CompletableFuture<MessageDTO.MessageResponse> submit(OrderParticipants participants, Long senderId,
+                                                                String senderUsername, String body,
+                                                                String clientMessageId) {
+        Pending pending = new Pending(participants, senderId, senderUsername, body, clientMessageId,
+                new CompletableFuture<>());
+        if (!writer.offer(pending)) {
+            throw new ServiceUnavailableException("Messaging is busy, try again shortly");
+        }
+        return pending.result();
+    }
+
+    @Override
+    protected GroupCommitWriter<?> writer() {
+        return writer;
+    }
+
+    private void persist(List<Pending> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        transaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (Pending pending : batch) {
+                Message message = new Message();
+                message.setOrder(entityManager.getReference(Order.class, pending.participants().orderId()));
+                message.setSender(entityManager.getReference(User.class, pending.senderId()));
+                message.setBody(pending.body());
+                entityManager.persist(message);
+                messages.add(message);
+            }
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            Message message = messages.get(i);
+            MessageDTO.MessageResponse response = new MessageDTO.MessageResponse(message.getId(),
+                    pending.participants().orderId(), pending.senderId(), pending.senderUsername(),
+                    message.getBody(), message.getCreatedAt());
+            history.append(response);
+            hub.deliver(response, pending.participants(), pending.clientMessageId());
+            pending.result().complete(response);
+        }
+    }
+
+    // A message fails alone when its order was deleted meanwhile
+    private static void failed(Pending pending, RuntimeException e) {
+        pending.result().completeExceptionally(e instanceof DataIntegrityViolationException
+                ? new ResourceNotFoundException("Order not found with id: " + pending.participants().orderId())
+                : e);
+    }
+
+    private record Pending(OrderParticipants participants, Long senderId, String senderUsername, String body,
+                           String clientMessageId, CompletableFuture<MessageDTO.MessageResponse> result) {}
+}
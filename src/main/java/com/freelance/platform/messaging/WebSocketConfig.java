@@ -0,0 +1,46 @@
+package com.freelance.platform.messaging;
+
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.server.ServerContainer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.ServletContextAware;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer, ServletContextAware {
+
+    private final ChatWebSocketHandler chatHandler;
+    private final TicketHandshakeInterceptor handshakeInterceptor;
+
+    @Value("${messaging.max-frame-chars:4096}")
+    private int maxFrameChars;
+
+    @Value("${messaging.idle-timeout:70s}")
+    private Duration idleTimeout;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatHandler, "/ws/messages")
+                .addInterceptors(handshakeInterceptor)
+                .setAllowedOriginPatterns("http://localhost:*", "https://localhost:*");
+    }
+
+    // Tomcat allocates both buffers up front per session, so their size dominates memory at scale
+    @Override
+    public void setServletContext(@NonNull ServletContext servletContext) {
+        if (servletContext.getAttribute(ServerContainer.class.getName()) instanceof ServerContainer container) {
+            container.setDefaultMaxTextMessageBufferSize(maxFrameChars);
+            container.setDefaultMaxBinaryMessageBufferSize(maxFrameChars * 2);
+            container.setDefaultMaxSessionIdleTimeout(idleTimeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.freelance.platform.metrics;
+
+import com.freelance.platform.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class PlatformMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Timer jwtVerification;
+    private final Timer principalLookup;
+    private final Counter jwtRejected;
+    private final Timer passwordEncode;
+    private final Timer passwordMatch;
+
+    private final Counter escrowedAmount;
+    private final Counter releasedAmount;
+    private final Counter refundedAmount;
+    private final Map<Order.OrderStatus, Counter> orderTransitions = new EnumMap<>(Order.OrderStatus.class);
+
+    public PlatformMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.jwtVerification = Timer.builder("auth.jwt.verification")
+                .description("Time spent parsing and verifying JWT signatures")
+                .register(registry);
+        this.principalLookup = Timer.builder("auth.principal.lookup")
+                .description("Time spent loading the authenticated user for a request")
+                .register(registry);
+        this.jwtRejected = Counter.builder("auth.jwt.rejected")
+                .description("Bearer tokens that failed verification")
+                .register(registry);
+        this.passwordEncode = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .description("BCrypt hashing time")
+                .register(registry);
+        this.passwordMatch = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .description("BCrypt hashing time")
+                .register(registry);
+
+        this.escrowedAmount = moneyCounter("escrowed");
+        this.releasedAmount = moneyCounter("released");
+        this.refundedAmount = moneyCounter("refunded");
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            orderTransitions.put(status, Counter.builder("orders.transitions")
+                    .tag("status", status.name())
+                    .description("Orders moved into a status")
+                    .register(registry));
+        }
+    }
+
+    private Counter moneyCounter(String flow) {
+        return Counter.builder("orders.money")
+                .tag("flow", flow)
+                .baseUnit("currency")
+                .description("Money moved through orders")
+                .register(registry);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    public Timer jwtVerification() {
+        return jwtVerification;
+    }
+
+    public Timer principalLookup() {
+        return principalLookup;
+    }
+
+    public void jwtRejected() {
+        jwtRejected.increment();
+    }
+
+    public Timer passwordEncode() {
+        return passwordEncode;
+    }
+
+    public Timer passwordMatch() {
+        return passwordMatch;
+    }
+
+    // Business counters only move once the change is durable; a rolled back order never counts
+    public void orderStatusChanged(Order.OrderStatus status) {
+        afterCommit(orderTransitions.get(status), 1);
+    }
+
+    public void moneyEscrowed(BigDecimal amount) {
+        afterCommit(escrowedAmount, amount.doubleValue());
+    }
+
+    public void moneyReleased(BigDecimal amount) {
+        afterCommit(releasedAmount, amount.doubleValue());
+    }
+
+    public void moneyRefunded(BigDecimal amount) {
+        afterCommit(refundedAmount, amount.doubleValue());
+    }
+
+    private static void afterCommit(Counter counter, double amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment(amount);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment(amount);
+            }
+        });
+    }
+}
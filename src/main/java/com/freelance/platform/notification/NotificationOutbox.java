@@ -0,0 +1,211 @@
+package com.freelance.platform.notification;
+
+import com.freelance.platform.concurrent.GroupCommitLifecycle;
+import com.freelance.platform.concurrent.GroupCommitWriter;
+import com.freelance.platform.entity.Notification;
+import com.freelance.platform.entity.Proposal;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import com.freelance.platform.repository.NotificationRepository;
+import com.freelance.platform.repository.OrderRepository;
+import com.freelance.platform.repository.ProposalRepository;
+import com.freelance.platform.stream.ProjectEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// A full queue drops and counts new events rather than slowing orders down
+@Slf4j
+@Component
+public class NotificationOutbox extends GroupCommitLifecycle {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final OrderRepository orderRepository;
+    private final ProposalRepository proposalRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounters counters;
+    private final GroupCommitWriter<Task> writer;
+    private final int batchSize;
+    private final Counter created;
+    private final Counter dropped;
+
+    public NotificationOutbox(EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              OrderRepository orderRepository,
+                              ProposalRepository proposalRepository,
+                              NotificationRepository notificationRepository,
+                              UnreadCounters counters,
+                              MeterRegistry registry,
+                              @Value("${notifications.queue-size:50000}") int queueSize,
+                              @Value("${notifications.batch-size:500}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.orderRepository = orderRepository;
+        this.proposalRepository = proposalRepository;
+        this.notificationRepository = notificationRepository;
+        this.counters = counters;
+        this.writer = new GroupCommitWriter<>("notifications", "Events and read marks", queueSize, batchSize, registry,
+                this::persist, this::failed);
+        this.batchSize = batchSize;
+        this.created = Counter.builder("notifications.created")
+                .description("Notifications written to inboxes")
+                .register(registry);
+        this.dropped = Counter.builder("notifications.dropped")
+                .description("Events not turned into notifications because the queue was full or their write failed")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        String order = "Order #" + event.orderId() + " for \"" + event.projectTitle() + "\"";
+        Notification.NotificationType type;
+        String message;
+        switch (event.status()) {
+            case PENDING -> {
+                type = Notification.NotificationType.ORDER_CREATED;
+                message = "New order #" + event.orderId() + " for \"" + event.projectTitle() + "\"";
+            }
+            case COMPLETED -> {
+                type = Notification.NotificationType.ORDER_COMPLETED;
+                message = order + " was completed";
+            }
+            case CANCELLED -> {
+                type = Notification.NotificationType.ORDER_CANCELLED;
+                message = order + " was cancelled";
+            }
+            default -> {
+                type = Notification.NotificationType.ORDER_STATUS_CHANGED;
+                message = order + " is now " + event.status().name().toLowerCase(Locale.ROOT).replace('_', ' ');
+            }
+        }
+        // Both parties except whoever made the change; an admin's change reaches both
+        List<Long> recipients = new ArrayList<>(2);
+        for (Long party : List.of(event.clientId(), event.freelancerId())) {
+            if (!party.equals(event.actorId())) {
+                recipients.add(party);
+            }
+        }
+        enqueue(new Fanout(type, event.orderId(), event.projectId(), recipients, message));
+    }
+
+    // Recipients are looked up by the writer, keeping the query off the request thread
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectEvent(ProjectEvent event) {
+        if (event.type() == ProjectEvent.Type.CLOSED) {
+            enqueue(new Fanout(Notification.NotificationType.PROJECT_CLOSED, null, event.project().id(), null,
+                    "Project \"" + event.project().title() + "\" was closed"));
+        }
+    }
+
+    // All of the user's notifications when id is null; completes with how many were unread
+    public CompletableFuture<Integer> markRead(Long userId, Long id) {
+        MarkRead task = new MarkRead(userId, id, new CompletableFuture<>());
+        if (!writer.offer(task)) {
+            throw new ServiceUnavailableException("Notifications are busy, try again shortly");
+        }
+        return task.result();
+    }
+
+    @Override
+    protected GroupCommitWriter<?> writer() {
+        return writer;
+    }
+
+    private void enqueue(Fanout fanout) {
+        if (!writer.offer(fanout)) {
+            dropped.increment();
+            log.warn("Notification queue full, dropped {} notification", fanout.type());
+        }
+    }
+
+    // A constraint violation, such as a recipient deleted since the event, loses only the task that caused it
+    private void failed(Task task, RuntimeException e) {
+        switch (task) {
+            case Fanout fanout -> {
+                dropped.increment();
+                log.warn("Dropped {} notification for project {}", fanout.type(), fanout.projectId(), e);
+            }
+            case MarkRead markRead -> markRead.result().completeExceptionally(e);
+        }
+    }
+
+    private void persist(List<Task> batch) {
+        int[] updated = new int[batch.size()];
+        long[] inserted = new long[1];
+        counters.commit(() -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            transaction.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < batch.size(); i++) {
+                    switch (batch.get(i)) {
+                        case Fanout fanout -> {
+                            for (Long recipient : recipients(fanout)) {
+                                Notification notification = new Notification();
+                                notification.setRecipient(entityManager.getReference(User.class, recipient));
+                                notification.setType(fanout.type());
+                                notification.setOrderId(fanout.orderId());
+                                notification.setProjectId(fanout.projectId());
+                                notification.setMessage(fanout.message());
+                                entityManager.persist(notification);
+                                deltas.merge(recipient, 1L, Long::sum);
+                                inserted[0]++;
+                            }
+                        }
+                        case MarkRead markRead -> {
+                            updated[i] = markRead.id() == null
+                                    ? notificationRepository.markAllRead(markRead.userId(), now)
+                                    : notificationRepository.markRead(markRead.userId(), markRead.id(), now);
+                            deltas.merge(markRead.userId(), (long) -updated[i], Long::sum);
+                        }
+                    }
+                }
+            });
+            return deltas;
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i) instanceof MarkRead markRead) {
+                markRead.result().complete(updated[i]);
+            }
+        }
+        created.increment(inserted[0]);
+    }
+
+    private Collection<Long> recipients(Fanout fanout) {
+        if (fanout.recipients() != null) {
+            return fanout.recipients();
+        }
+        Set<Long> recipients = new LinkedHashSet<>(orderRepository.findFreelancerIdsByProjectId(fanout.projectId()));
+        recipients.addAll(proposalRepository.findFreelancerIdsByProjectIdAndStatus(
+                fanout.projectId(), Proposal.ProposalStatus.PENDING));
+        return recipients;
+    }
+
+    private sealed interface Task permits Fanout, MarkRead {}
+
+    // A null recipient list means everyone hired for or bidding on the project
+    private record Fanout(Notification.NotificationType type, Long orderId, Long projectId, List<Long> recipients,
+                          String message) implements Task {}
+
+    private record MarkRead(Long userId, Long id, CompletableFuture<Integer> result) implements Task {}
+}
@@ -0,0 +1,12 @@
+package com.freelance.platform.notification;
+
+import com.freelance.platform.entity.Order;
+
+public record OrderEvent(Long orderId, Long projectId, String projectTitle, Long clientId, Long freelancerId,
+                         Long actorId, Order.OrderStatus status) {
+
+    public static OrderEvent of(Order order, Long actorId) {
+        return new OrderEvent(order.getId(), order.getProject().getId(), order.getProject().getTitle(),
+                order.getClient().getId(), order.getFreelancer().getId(), actorId, order.getStatus());
+    }
+}
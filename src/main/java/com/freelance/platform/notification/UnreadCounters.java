@@ -0,0 +1,56 @@
+package com.freelance.platform.notification;
+
+import com.freelance.platform.repository.NotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Loads and the writer's commit-and-adjust share a lock, so a batch is never counted twice or missed
+@Component
+public class UnreadCounters {
+
+    private final NotificationRepository notificationRepository;
+    private final ConcurrentHashMap<Long, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public UnreadCounters(NotificationRepository notificationRepository, MeterRegistry registry) {
+        this.notificationRepository = notificationRepository;
+        Gauge.builder("notifications.unread.counters", counters, Map::size)
+                .description("Users whose unread count is held in memory")
+                .register(registry);
+    }
+
+    public long unread(Long userId) {
+        AtomicLong counter = counters.get(userId);
+        if (counter != null) {
+            return counter.get();
+        }
+        lock.lock();
+        try {
+            return counters.computeIfAbsent(userId,
+                    id -> new AtomicLong(notificationRepository.countByRecipientIdAndReadAtIsNull(id))).get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void commit(Supplier<Map<Long, Long>> transaction) {
+        lock.lock();
+        try {
+            transaction.get().forEach((userId, delta) -> {
+                AtomicLong counter = counters.get(userId);
+                if (counter != null) {
+                    counter.addAndGet(delta);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.freelance.platform.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.freelance.platform.Authentication")
+@Label("JWT Authentication")
+@Category({"Freelance Platform", "Security"})
+@Description("Bearer token verification and principal lookup")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User Role")
+    String userRole;
+
+    @Label("DB Statements")
+    int statementCount;
+
+    @Label("Authenticated")
+    boolean authenticated;
+
+    private transient int statementsAtStart;
+
+    public static AuthenticationEvent start() {
+        AuthenticationEvent event = new AuthenticationEvent();
+        if (event.isEnabled()) {
+            event.statementsAtStart = StatementCounter.current();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void complete(HttpServletRequest request) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            endpoint = RequestDescriptor.endpoint(request);
+            userRole = RequestDescriptor.userRole();
+            statementCount = StatementCounter.current() - statementsAtStart;
+            authenticated = !"none".equals(userRole);
+            commit();
+        }
+    }
+}
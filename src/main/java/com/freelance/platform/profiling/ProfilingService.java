@@ -0,0 +1,102 @@
+package com.freelance.platform.profiling;
+
+import com.freelance.platform.exception.BadRequestException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class ProfilingService {
+
+    private static final Duration MAX_AGE_LIMIT = Duration.ofMinutes(30);
+    private static final long MAX_SIZE_LIMIT = 256L * 1024 * 1024;
+
+    private Recording recording;
+
+    public synchronized Map<String, Object> start(String settings, Duration maxAge, long maxSizeBytes) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new BadRequestException("Profiling recording is already running");
+        }
+        if (maxAge.isNegative() || maxAge.isZero() || maxAge.compareTo(MAX_AGE_LIMIT) > 0) {
+            throw new BadRequestException("maxAge must be between 1 second and " + MAX_AGE_LIMIT.toMinutes() + " minutes");
+        }
+        if (maxSizeBytes <= 0 || maxSizeBytes > MAX_SIZE_LIMIT) {
+            throw new BadRequestException("maxSize must be between 1 byte and " + MAX_SIZE_LIMIT + " bytes");
+        }
+
+        Recording newRecording = new Recording(loadConfiguration(settings));
+        newRecording.setName("freelance-platform-on-demand");
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.enable(ServiceCallEvent.class);
+        newRecording.enable(AuthenticationEvent.class);
+        newRecording.start();
+        recording = newRecording;
+        return status();
+    }
+
+    public synchronized Path stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new BadRequestException("No profiling recording is running");
+        }
+        Path file = null;
+        boolean dumped = false;
+        try {
+            file = Files.createTempFile("freelance-platform-", ".jfr");
+            recording.stop();
+            recording.dump(file);
+            dumped = true;
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write profiling recording", e);
+        } finally {
+            recording.close();
+            recording = null;
+            if (!dumped && file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // the dump failure is what gets reported
+        }
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", recording != null && recording.getState() == RecordingState.RUNNING);
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("maxSize", recording.getMaxSize());
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    private Configuration loadConfiguration(String settings) {
+        if (!"default".equals(settings) && !"profile".equals(settings)) {
+            throw new BadRequestException("settings must be 'default' or 'profile'");
+        }
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR configuration " + settings, e);
+        }
+    }
+}
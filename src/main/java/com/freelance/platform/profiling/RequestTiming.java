@@ -0,0 +1,98 @@
+package com.freelance.platform.profiling;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    public enum Metric {
+        JWT("jwt", "JWT verification"),
+        PRINCIPAL("principal", "User lookup"),
+        DB("db", "JDBC statements"),
+        SERVICE("service", "Service layer (incl. db)"),
+        SERIALIZATION("json-ttfb", "Response serialization until the first byte");
+
+        private final String token;
+        private final String description;
+
+        Metric(String token, String description) {
+            this.token = token;
+            this.description = description;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Metric.values().length];
+    private int serviceDepth;
+    private long serializationStart;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void add(Metric metric, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[metric.ordinal()] += elapsedNanos;
+        }
+    }
+
+    static boolean enterService() {
+        RequestTiming timing = CURRENT.get();
+        return timing != null && timing.serviceDepth++ == 0;
+    }
+
+    static void exitService(long elapsedNanos, boolean outermost) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.serviceDepth--;
+            if (outermost) {
+                timing.nanos[Metric.SERVICE.ordinal()] += elapsedNanos;
+            }
+        }
+    }
+
+    static void markSerializationStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.serializationStart == 0) {
+            timing.serializationStart = System.nanoTime();
+        }
+    }
+
+    String toHeader() {
+        long end = System.nanoTime();
+        if (serializationStart != 0) {
+            nanos[Metric.SERIALIZATION.ordinal()] = end - serializationStart;
+        }
+        StringBuilder header = new StringBuilder();
+        for (Metric metric : Metric.values()) {
+            long elapsed = nanos[metric.ordinal()];
+            if (elapsed > 0) {
+                append(header, metric.token, metric.description, elapsed);
+            }
+        }
+        append(header, "total", "Total", end - startNanos);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String token, String description, long elapsedNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        double millis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        header.append(token)
+                .append(";desc=\"").append(description).append('"')
+                .append(";dur=").append(String.format(Locale.ROOT, "%.3f", millis));
+    }
+}
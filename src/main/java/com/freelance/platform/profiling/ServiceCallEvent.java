@@ -0,0 +1,57 @@
+package com.freelance.platform.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.freelance.platform.ServiceCall")
+@Label("Service Call")
+@Category({"Freelance Platform", "Service"})
+@Description("Invocation of a service-layer method")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User Role")
+    String userRole;
+
+    @Label("DB Statements")
+    int statementCount;
+
+    private transient int statementsAtStart;
+
+    public static ServiceCallEvent start() {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (event.isEnabled()) {
+            event.statementsAtStart = StatementCounter.current();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void complete(String service, String operation) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.service = service;
+            this.operation = operation;
+            endpoint = RequestDescriptor.endpoint();
+            userRole = RequestDescriptor.userRole();
+            statementCount = StatementCounter.current() - statementsAtStart;
+            commit();
+        }
+    }
+}
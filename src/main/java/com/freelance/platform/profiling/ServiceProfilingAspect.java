@@ -0,0 +1,35 @@
+package com.freelance.platform.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceProfilingAspect {
+
+    @Around("execution(public * com.freelance.platform.service.OrderService.*(..))"
+            + " || execution(public * com.freelance.platform.service.ProjectService.*(..))"
+            + " || execution(public * com.freelance.platform.service.UserService.getCurrentUser())")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String operation = joinPoint.getSignature().getName();
+        boolean principalLookup = "UserService".equals(service);
+
+        ServiceCallEvent event = ServiceCallEvent.start();
+        boolean outermost = !principalLookup && RequestTiming.enterService();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (principalLookup) {
+                RequestTiming.add(RequestTiming.Metric.PRINCIPAL, elapsed);
+            } else {
+                RequestTiming.exitService(elapsed, outermost);
+            }
+            event.complete(service, operation);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.freelance.platform.reactive;
+
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.exception.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class ReactiveProjectHandler {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final ReactiveProjectRepository repository;
+
+    public Mono<ServerResponse> getAllProjects(ServerRequest request) {
+        Project.ProjectStatus status;
+        Long afterId;
+        Integer limit;
+        try {
+            status = request.queryParam("status").map(Project.ProjectStatus::valueOf).orElse(null);
+            afterId = request.queryParam("afterId").map(Long::valueOf).orElse(null);
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (IllegalArgumentException e) {
+            return error(HttpStatus.BAD_REQUEST, "Bad Request", "Invalid query parameter: " + e.getMessage());
+        }
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            return error(HttpStatus.BAD_REQUEST, "Bad Request", "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        MediaType mediaType = streaming(request) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(repository.findAll(status, afterId, limit), ProjectDTO.ProjectListResponse.class);
+    }
+
+    public Mono<ServerResponse> getProjectById(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "Bad Request", "Invalid project id");
+        }
+        return repository.findById(id)
+                .flatMap(project -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(project))
+                .switchIfEmpty(Mono.defer(() ->
+                        error(HttpStatus.NOT_FOUND, "Not Found", "Project not found with id: " + id)));
+    }
+
+    private static boolean streaming(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::isCompatibleWith);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String error, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new GlobalExceptionHandler.ErrorResponse(LocalDateTime.now(), status.value(), error, message));
+    }
+}
@@ -0,0 +1,121 @@
+package com.freelance.platform.reactive;
+
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.Project;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+public class ReactiveProjectRepository implements DisposableBean {
+
+    private static final String LIST_SQL = "SELECT p.id, p.title, p.budget, u.username AS client_username, "
+            + "p.status, p.created_at FROM projects p JOIN users u ON u.id = p.client_id";
+
+    private static final String DETAIL_SQL = "SELECT p.id, p.title, p.description, p.budget, p.client_id, "
+            + "u.username AS client_username, p.status, p.created_at, p.updated_at, p.closed_at "
+            + "FROM projects p JOIN users u ON u.id = p.client_id WHERE p.id = :id";
+
+    // The pool is deliberately not a bean: a ConnectionFactory bean would switch off the JDBC DataSource auto-configuration
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveProjectRepository(@Value("${reactive.r2dbc.url}") String url,
+                                     @Value("${spring.datasource.username}") String username,
+                                     @Value("${spring.datasource.password:}") String password,
+                                     @Value("${reactive.r2dbc.pool.max-size:20}") int maxPoolSize,
+                                     @Value("${reactive.r2dbc.fetch-size:256}") int fetchSize) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(
+                        ConnectionFactoryOptions.parse(url).mutate()
+                                .option(ConnectionFactoryOptions.USER, username)
+                                .option(ConnectionFactoryOptions.PASSWORD, password)
+                                .build()))
+                .initialSize(1)
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<ProjectDTO.ProjectListResponse> findAll(Project.ProjectStatus status, Long afterId, Integer limit) {
+        StringBuilder sql = new StringBuilder(LIST_SQL);
+        String conjunction = " WHERE ";
+        if (status != null) {
+            // r2dbc-h2 binds strings as CLOBs, which H2 will not compare against the enum column directly
+            sql.append(conjunction).append("p.status = CAST(:status AS VARCHAR(32))");
+            conjunction = " AND ";
+        }
+        if (afterId != null) {
+            sql.append(conjunction).append("p.id > :afterId");
+        }
+        sql.append(" ORDER BY p.id");
+        if (limit != null) {
+            sql.append(" LIMIT :limit");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .filter(statement -> statement.fetchSize(fetchSize));
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (afterId != null) {
+            spec = spec.bind("afterId", afterId);
+        }
+        if (limit != null) {
+            spec = spec.bind("limit", limit);
+        }
+        return spec.map(ReactiveProjectRepository::mapToListResponse).all();
+    }
+
+    public Mono<ProjectDTO.ProjectResponse> findById(Long id) {
+        return databaseClient.sql(DETAIL_SQL)
+                .bind("id", id)
+                .map(ReactiveProjectRepository::mapToDetailResponse)
+                .one();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static ProjectDTO.ProjectListResponse mapToListResponse(Readable row) {
+        return new ProjectDTO.ProjectListResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("budget", BigDecimal.class).toString(),
+                row.get("client_username", String.class),
+                Project.ProjectStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class)
+        );
+    }
+
+    private static ProjectDTO.ProjectResponse mapToDetailResponse(Readable row) {
+        return new ProjectDTO.ProjectResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("budget", BigDecimal.class).toString(),
+                row.get("client_id", Long.class),
+                row.get("client_username", String.class),
+                Project.ProjectStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("closed_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,3 @@
+package com.freelance.platform.repository;
+
+public record CompletedWork(Long freelancerId, String title, String description) {}
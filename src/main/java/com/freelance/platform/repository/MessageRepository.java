@@ -0,0 +1,18 @@
+package com.freelance.platform.repository;
+
+import com.freelance.platform.entity.Message;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MessageRepository extends JpaRepository<Message, Long> {
+
+    // Newest first; pass Long.MAX_VALUE as before for the latest page
+    @Query("select m from Message m join fetch m.sender where m.order.id = :orderId and m.id < :before order by m.id desc")
+    List<Message> findPage(@Param("orderId") Long orderId, @Param("before") Long before, Limit limit);
+}
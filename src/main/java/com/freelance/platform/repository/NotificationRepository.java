@@ -0,0 +1,32 @@
+package com.freelance.platform.repository;
+
+import com.freelance.platform.entity.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Newest first; pass Long.MAX_VALUE as before for the first page
+    @Query("select n from Notification n where n.recipient.id = :recipientId and n.id < :before order by n.id desc")
+    List<Notification> findPage(@Param("recipientId") Long recipientId, @Param("before") Long before, Limit limit);
+
+    long countByRecipientIdAndReadAtIsNull(Long recipientId);
+
+    boolean existsByIdAndRecipientId(Long id, Long recipientId);
+
+    @Modifying
+    @Query("update Notification n set n.readAt = :now where n.id = :id and n.recipient.id = :recipientId and n.readAt is null")
+    int markRead(@Param("recipientId") Long recipientId, @Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Notification n set n.readAt = :now where n.recipient.id = :recipientId and n.readAt is null")
+    int markAllRead(@Param("recipientId") Long recipientId, @Param("now") LocalDateTime now);
+}
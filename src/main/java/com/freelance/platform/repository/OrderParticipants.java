@@ -0,0 +1,8 @@
+package com.freelance.platform.repository;
+
+public record OrderParticipants(long orderId, long clientId, long freelancerId) {
+
+    public boolean includes(Long userId) {
+        return userId != null && (userId == clientId || userId == freelancerId);
+    }
+}
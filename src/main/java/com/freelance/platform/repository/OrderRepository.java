@@ -2,10 +2,18 @@ package com.freelance.platform.repository;
 
 import com.freelance.platform.entity.Order;
 import com.freelance.platform.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -19,4 +27,61 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByFreelancerAndStatus(User freelancer, Order.OrderStatus status);
     
     List<Order> findByClientAndStatus(User client, Order.OrderStatus status);
+
+    long countByFreelancerIdAndStatus(Long freelancerId, Order.OrderStatus status);
+
+    @Query("select new com.freelance.platform.repository.OrderParticipants(o.id, o.client.id, o.freelancer.id) "
+            + "from Order o where o.id = :id")
+    Optional<OrderParticipants> findParticipantsById(@Param("id") Long id);
+
+    @Query("select distinct o.freelancer.id from Order o where o.project.id = :projectId")
+    List<Long> findFreelancerIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select o.freelancer.id from Order o where o.id in :ids")
+    List<Long> findFreelancerIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct o.freelancer.id from Order o where o.project.id in :projectIds and o.status = :status")
+    List<Long> findFreelancerIdsByProjectIdInAndStatus(@Param("projectIds") Collection<Long> projectIds,
+                                                       @Param("status") Order.OrderStatus status);
+
+    @Query("select new com.freelance.platform.repository.CompletedWork(o.freelancer.id, p.title, p.description) "
+            + "from Order o join o.project p where o.status = com.freelance.platform.entity.Order.OrderStatus.COMPLETED")
+    List<CompletedWork> findCompletedWork();
+
+    @Query("select new com.freelance.platform.repository.CompletedWork(o.freelancer.id, p.title, p.description) "
+            + "from Order o join o.project p "
+            + "where o.freelancer.id in :freelancerIds and o.status = com.freelance.platform.entity.Order.OrderStatus.COMPLETED")
+    List<CompletedWork> findCompletedWorkByFreelancerIdIn(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(o), max(o.updatedAt)) "
+            + "from Order o where o.freelancer = :freelancer")
+    VersionStamp findVersionByFreelancer(@Param("freelancer") User freelancer);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(o), max(o.updatedAt)) "
+            + "from Order o where o.client = :client")
+    VersionStamp findVersionByClient(@Param("client") User client);
+
+    // Orders show the project title and both usernames; changing either bumps the orders that display it
+    @Modifying
+    @Query("update Order o set o.updatedAt = :now where o.project.id = :projectId")
+    int touchByProjectId(@Param("projectId") Long projectId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Order o set o.updatedAt = :now where o.client.id = :userId or o.freelancer.id = :userId")
+    int touchByParticipantId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // Keyset pages after (updatedAt, id); pass Long.MAX_VALUE as afterId to start strictly after a timestamp
+    @EntityGraph(attributePaths = {"project", "freelancer", "client"})
+    @Query("select o from Order o where o.freelancer = :freelancer "
+            + "and (o.updatedAt > :after or (o.updatedAt = :after and o.id > :afterId)) order by o.updatedAt, o.id")
+    List<Order> findChangedForFreelancer(@Param("freelancer") User freelancer, @Param("after") LocalDateTime after,
+                                         @Param("afterId") long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = {"project", "freelancer", "client"})
+    @Query("select o from Order o where o.client = :client "
+            + "and (o.updatedAt > :after or (o.updatedAt = :after and o.id > :afterId)) order by o.updatedAt, o.id")
+    List<Order> findChangedForClient(@Param("client") User client, @Param("after") LocalDateTime after,
+                                     @Param("afterId") long afterId, Limit limit);
+
+    boolean existsByProjectId(Long projectId);
 }
@@ -0,0 +1,16 @@
+package com.freelance.platform.repository;
+
+import com.freelance.platform.entity.ProjectAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectAttachmentRepository extends JpaRepository<ProjectAttachment, Long> {
+
+    List<ProjectAttachment> findByProjectIdOrderByIdAsc(Long projectId);
+
+    Optional<ProjectAttachment> findByIdAndProjectId(Long id, Long projectId);
+}
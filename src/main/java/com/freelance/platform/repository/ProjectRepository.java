@@ -3,9 +3,16 @@ package com.freelance.platform.repository;
 
 import com.freelance.platform.entity.Project;
 import com.freelance.platform.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +23,37 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByStatus(Project.ProjectStatus status);
 
     List<Project> findByClientAndStatus(User client, Project.ProjectStatus status);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(p), max(p.updatedAt)) "
+            + "from Project p where p.id = :id")
+    VersionStamp findVersionById(@Param("id") Long id);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(p), max(p.updatedAt)) "
+            + "from Project p")
+    VersionStamp findVersion();
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(p), max(p.updatedAt)) "
+            + "from Project p where p.status = :status")
+    VersionStamp findVersionByStatus(@Param("status") Project.ProjectStatus status);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(p), max(p.updatedAt)) "
+            + "from Project p where p.client = :client")
+    VersionStamp findVersionByClient(@Param("client") User client);
+
+    // Projects show their client's username; renaming the client bumps them so their ETags and delta sync move
+    @Modifying
+    @Query("update Project p set p.updatedAt = :now where p.client.id = :clientId")
+    int touchByClientId(@Param("clientId") Long clientId, @Param("now") LocalDateTime now);
+
+    // Keyset page after (updatedAt, id); pass Long.MAX_VALUE as afterId to start strictly after a timestamp
+    @EntityGraph(attributePaths = "client")
+    @Query("select p from Project p where p.updatedAt > :after or (p.updatedAt = :after and p.id > :afterId) "
+            + "order by p.updatedAt, p.id")
+    List<Project> findChangedAfter(@Param("after") LocalDateTime after, @Param("afterId") long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = "client")
+    List<Project> findWithClientByStatus(Project.ProjectStatus status);
+
+    @EntityGraph(attributePaths = "client")
+    List<Project> findWithClientByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
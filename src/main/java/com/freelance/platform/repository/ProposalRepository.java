@@ -0,0 +1,30 @@
+package com.freelance.platform.repository;
+
+import com.freelance.platform.entity.Proposal;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProposalRepository extends JpaRepository<Proposal, Long> {
+
+    boolean existsByProjectIdAndFreelancerId(Long projectId, Long freelancerId);
+
+    @EntityGraph(attributePaths = "freelancer")
+    List<Proposal> findByProjectIdAndStatus(Long projectId, Proposal.ProposalStatus status);
+
+    @Query("select p.freelancer.id from Proposal p where p.project.id = :projectId and p.status = :status")
+    List<Long> findFreelancerIdsByProjectIdAndStatus(@Param("projectId") Long projectId,
+                                                     @Param("status") Proposal.ProposalStatus status);
+
+    @EntityGraph(attributePaths = "project")
+    List<Proposal> findByFreelancerIdOrderByIdDesc(Long freelancerId);
+
+    @EntityGraph(attributePaths = {"project", "freelancer"})
+    Optional<Proposal> findByIdAndProjectId(Long id, Long projectId);
+}
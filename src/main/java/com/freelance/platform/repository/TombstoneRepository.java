@@ -0,0 +1,26 @@
+package com.freelance.platform.repository;
+
+import com.freelance.platform.entity.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    // Keyset page after (deletedAt, id); pass Long.MAX_VALUE as afterId to start strictly after a timestamp
+    @Query("select t from Tombstone t where t.entityType = :type "
+            + "and (t.deletedAt > :after or (t.deletedAt = :after and t.id > :afterId)) order by t.deletedAt, t.id")
+    List<Tombstone> findPage(@Param("type") Tombstone.EntityType type, @Param("after") LocalDateTime after,
+                             @Param("afterId") long afterId, Limit limit);
+
+    @Modifying
+    @Query("delete from Tombstone t where t.entityType = :type and t.deletedAt < :cutoff")
+    int deleteExpired(@Param("type") Tombstone.EntityType type, @Param("cutoff") LocalDateTime cutoff);
+}
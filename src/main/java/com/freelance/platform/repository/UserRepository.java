@@ -2,8 +2,12 @@ package com.freelance.platform.repository;
 
 import com.freelance.platform.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +20,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+
+    List<User> findByRole(User.UserRole role);
+
+    List<User> findByIdInAndRole(Collection<Long> ids, User.UserRole role);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(u), max(u.updatedAt)) from User u where u.id = :id")
+    VersionStamp findVersionById(@Param("id") Long id);
+
+    @Query("select new com.freelance.platform.repository.VersionStamp(count(u), max(u.updatedAt)) from User u")
+    VersionStamp findVersion();
 }
@@ -0,0 +1,18 @@
+package com.freelance.platform.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Rows showing data from other tables are bumped when the source changes, so the ETag stays strong
+public record VersionStamp(long count, LocalDateTime lastModified) {
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public String toETag(String scope) {
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return "\"" + scope + "-" + count + "-" + Long.toString(micros, 36) + "\"";
+    }
+}
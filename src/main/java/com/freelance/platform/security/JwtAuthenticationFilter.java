@@ -5,6 +5,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.freelance.platform.metrics.PlatformMetrics;
+import com.freelance.platform.profiling.AuthenticationEvent;
+import com.freelance.platform.profiling.RequestTiming;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final PlatformMetrics metrics;
 
     @Override
     protected void doFilterInternal(
@@ -40,14 +45,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
+        AuthenticationEvent event = AuthenticationEvent.start();
 
+        long jwtNanos = 0;
         try {
+            long start = System.nanoTime();
             userEmail = jwtUtil.extractUsername(jwt);
+            jwtNanos += System.nanoTime() - start;
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                start = System.nanoTime();
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                long lookupNanos = System.nanoTime() - start;
+                metrics.principalLookup().record(lookupNanos, TimeUnit.NANOSECONDS);
+                RequestTiming.add(RequestTiming.Metric.PRINCIPAL, lookupNanos);
 
-                if (jwtUtil.isTokenValid(jwt, userDetails)) {
+                start = System.nanoTime();
+                boolean tokenValid = jwtUtil.isTokenValid(jwt, userDetails);
+                jwtNanos += System.nanoTime() - start;
+
+                if (tokenValid) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -58,7 +75,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             }
         } catch (Exception e) {
+            metrics.jwtRejected();
             logger.error("Cannot set user authentication: {}", e);
+        } finally {
+            metrics.jwtVerification().record(jwtNanos, TimeUnit.NANOSECONDS);
+            RequestTiming.add(RequestTiming.Metric.JWT, jwtNanos);
+            event.complete(request);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,359 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.AttachmentDTO;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.ProjectAttachment;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.PayloadTooLargeException;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.UnauthorizedException;
+import com.freelance.platform.repository.ProjectAttachmentRepository;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.stream.ProjectEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// A chunk only counts once it matches the client's Content-Digest and is forced to disk
+@Slf4j
+@Service
+public class AttachmentService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA_256_DIGEST = Pattern.compile("(?:^|,)\\s*sha-256=:([A-Za-z0-9+/]+=*):");
+
+    private final ProjectAttachmentRepository attachmentRepository;
+    private final EntityManager entityManager;
+    private final ProjectRepository projectRepository;
+    private final UserService userService;
+    private final TransactionTemplate transaction;
+    private final Path directory;
+    private final long maxSize;
+    private final int chunkSize;
+    private final Set<String> chunksInFlight = ConcurrentHashMap.newKeySet();
+
+    public AttachmentService(ProjectAttachmentRepository attachmentRepository,
+                             EntityManager entityManager,
+                             ProjectRepository projectRepository,
+                             UserService userService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${attachments.storage-dir}") Path directory,
+                             @Value("${attachments.max-size:512MB}") DataSize maxSize,
+                             @Value("${attachments.chunk-size:4MB}") DataSize chunkSize) {
+        this.attachmentRepository = attachmentRepository;
+        this.entityManager = entityManager;
+        this.projectRepository = projectRepository;
+        this.userService = userService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxSize = maxSize.toBytes();
+        this.chunkSize = Math.toIntExact(chunkSize.toBytes());
+    }
+
+    public record Download(Path file, String fileName, MediaType contentType, String eTag) {}
+
+    @Transactional
+    public AttachmentDTO.AttachmentResponse createAttachment(Long projectId, AttachmentDTO.CreateAttachmentRequest request) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!project.getClient().getId().equals(userService.getCurrentUser().getId())) {
+            throw new UnauthorizedException("You can only attach files to your own projects");
+        }
+        if (request.size() > maxSize) {
+            throw new PayloadTooLargeException("Attachment must not exceed " + DataSize.ofBytes(maxSize).toMegabytes() + " MB");
+        }
+
+        int chunkCount = Math.toIntExact((request.size() + chunkSize - 1) / chunkSize);
+        ProjectAttachment attachment = new ProjectAttachment();
+        attachment.setProject(project);
+        attachment.setFileName(sanitizeFileName(request.fileName()));
+        attachment.setContentType(sanitizeContentType(request.contentType()));
+        attachment.setSize(request.size());
+        attachment.setChunkSize(chunkSize);
+        attachment.setChunkCount(chunkCount);
+        attachment.setReceivedChunks(new byte[(chunkCount + 7) / 8]);
+        ProjectAttachment saved = attachmentRepository.save(attachment);
+
+        // Sized once here; chunks are positional writes into it. Sparse where the filesystem allows.
+        Path file = file(saved);
+        try {
+            Files.createDirectories(file.getParent());
+            try (RandomAccessFile target = new RandomAccessFile(file.toFile(), "rw")) {
+                target.setLength(request.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot allocate attachment file", e);
+        }
+        return mapToResponse(saved);
+    }
+
+    public List<AttachmentDTO.AttachmentResponse> getAttachments(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        return attachmentRepository.findByProjectIdOrderByIdAsc(projectId).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    public AttachmentDTO.AttachmentResponse getAttachment(Long projectId, Long id) {
+        return mapToResponse(completeIfReceived(findAttachment(projectId, id)));
+    }
+
+    public AttachmentDTO.AttachmentResponse uploadChunk(Long projectId, Long id, int index, InputStream body,
+                                                        long contentLength, String contentDigest) {
+        ProjectAttachment attachment = findOwnAttachment(projectId, id);
+        if (attachment.getStatus() == ProjectAttachment.AttachmentStatus.COMPLETE) {
+            throw new BadRequestException("Attachment upload is already complete");
+        }
+        if (index < 0 || index >= attachment.getChunkCount()) {
+            throw new BadRequestException("Chunk index must be between 0 and " + (attachment.getChunkCount() - 1));
+        }
+        byte[] expectedDigest = parseSha256Digest(contentDigest);
+        long offset = (long) index * attachment.getChunkSize();
+        long length = Math.min(attachment.getChunkSize(), attachment.getSize() - offset);
+        if (contentLength >= 0 && contentLength != length) {
+            throw new BadRequestException("Chunk " + index + " must be exactly " + length + " bytes");
+        }
+
+        // The slot is held until the chunk is marked, so a retry cannot rewrite verified bytes
+        String slot = id + ":" + index;
+        if (!chunksInFlight.add(slot)) {
+            throw new BadRequestException("Chunk " + index + " is already being uploaded");
+        }
+        ProjectAttachment updated;
+        try {
+            ProjectAttachment current = transaction.execute(status -> reload(id, LockModeType.NONE));
+            if (current.isChunkReceived(index)) {
+                return mapToResponse(completeIfReceived(current));
+            }
+            writeChunk(file(attachment), offset, length, body, expectedDigest);
+            updated = transaction.execute(status -> {
+                ProjectAttachment locked = reload(id, LockModeType.PESSIMISTIC_WRITE);
+                locked.markChunkReceived(index);
+                return locked;
+            });
+        } finally {
+            chunksInFlight.remove(slot);
+        }
+        // The row lock orders the markers, so only the request that set the last bit sees every chunk here
+        return mapToResponse(completeIfReceived(updated));
+    }
+
+    public Download getDownload(Long projectId, Long id) {
+        ProjectAttachment attachment = findAttachment(projectId, id);
+        if (attachment.getStatus() != ProjectAttachment.AttachmentStatus.COMPLETE) {
+            throw new BadRequestException("Attachment upload is not complete");
+        }
+        return new Download(file(attachment), attachment.getFileName(),
+                MediaType.parseMediaType(attachment.getContentType()), "\"" + attachment.getSha256() + "\"");
+    }
+
+    public void deleteAttachment(Long projectId, Long id) {
+        User currentUser = userService.getCurrentUser();
+        ProjectAttachment attachment = attachmentRepository.findByIdAndProjectId(id, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id: " + id));
+        if (!attachment.getProject().getClient().getId().equals(currentUser.getId())
+                && !currentUser.getRole().equals(User.UserRole.ADMIN)) {
+            throw new UnauthorizedException("You can only delete attachments of your own projects");
+        }
+        attachmentRepository.delete(attachment);
+        try {
+            Files.deleteIfExists(file(attachment));
+        } catch (IOException e) {
+            log.warn("Could not delete attachment file {}", file(attachment), e);
+        }
+    }
+
+    // Rows go with the project through ON DELETE CASCADE; the files only once the delete has committed
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectEvent(ProjectEvent event) {
+        if (event.type() != ProjectEvent.Type.DELETED) {
+            return;
+        }
+        Path projectDirectory = directory.resolve(String.valueOf(event.project().id()));
+        try {
+            FileSystemUtils.deleteRecursively(projectDirectory);
+        } catch (IOException e) {
+            log.warn("Could not delete attachments of project {}", event.project().id(), e);
+        }
+    }
+
+    private void writeChunk(Path file, long offset, long length, InputStream body, byte[] expectedDigest) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int read;
+            // Asks for one byte more than the remaining length so an oversized chunk is detected
+            while ((read = body.read(buffer, 0, (int) Math.min(buffer.length, length - written + 1))) != -1) {
+                if (written + read > length) {
+                    throw new BadRequestException("Chunk is larger than " + length + " bytes");
+                }
+                ByteBuffer source = ByteBuffer.wrap(buffer, 0, read);
+                while (source.hasRemaining()) {
+                    channel.write(source, offset + written + source.position());
+                }
+                digest.update(buffer, 0, read);
+                written += read;
+            }
+            if (written != length) {
+                throw new BadRequestException("Chunk is " + written + " bytes, expected " + length);
+            }
+            if (!MessageDigest.isEqual(digest.digest(), expectedDigest)) {
+                throw new BadRequestException("Chunk checksum does not match Content-Digest");
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write attachment chunk", e);
+        }
+    }
+
+    // A re-sent chunk or a status read finishes an upload whose last chunk request failed
+    private ProjectAttachment completeIfReceived(ProjectAttachment attachment) {
+        if (attachment.getStatus() != ProjectAttachment.AttachmentStatus.UPLOADING
+                || attachment.getReceivedCount() != attachment.getChunkCount()) {
+            return attachment;
+        }
+        String sha256 = hashFile(file(attachment));
+        return transaction.execute(status -> {
+            ProjectAttachment locked = reload(attachment.getId(), LockModeType.PESSIMISTIC_WRITE);
+            if (locked.getStatus() == ProjectAttachment.AttachmentStatus.UPLOADING) {
+                locked.setStatus(ProjectAttachment.AttachmentStatus.COMPLETE);
+                locked.setSha256(sha256);
+                locked.setCompletedAt(LocalDateTime.now());
+            }
+            return locked;
+        });
+    }
+
+    // Re-reads the row: open-session-in-view would otherwise hand back a stale bitmap
+    private ProjectAttachment reload(Long id, LockModeType lockMode) {
+        ProjectAttachment attachment = entityManager.find(ProjectAttachment.class, id);
+        if (attachment == null) {
+            throw new ResourceNotFoundException("Attachment not found with id: " + id);
+        }
+        entityManager.refresh(attachment, lockMode);
+        return attachment;
+    }
+
+    private static String hashFile(Path file) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read attachment file", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private ProjectAttachment findAttachment(Long projectId, Long id) {
+        return attachmentRepository.findByIdAndProjectId(id, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id: " + id));
+    }
+
+    private ProjectAttachment findOwnAttachment(Long projectId, Long id) {
+        ProjectAttachment attachment = findAttachment(projectId, id);
+        if (!attachment.getProject().getClient().getId().equals(userService.getCurrentUser().getId())) {
+            throw new UnauthorizedException("You can only upload to attachments of your own projects");
+        }
+        return attachment;
+    }
+
+    private Path file(ProjectAttachment attachment) {
+        return directory.resolve(String.valueOf(attachment.getProject().getId()))
+                .resolve(attachment.getId() + ".bin");
+    }
+
+    private static byte[] parseSha256Digest(String contentDigest) {
+        Matcher matcher = contentDigest == null ? null : SHA_256_DIGEST.matcher(contentDigest);
+        if (matcher == null || !matcher.find()) {
+            throw new BadRequestException("Content-Digest header with a sha-256 value is required");
+        }
+        byte[] digest = Base64.getDecoder().decode(matcher.group(1));
+        if (digest.length != 32) {
+            throw new BadRequestException("Content-Digest sha-256 value must be 32 bytes");
+        }
+        return digest;
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .strip();
+        return name.isEmpty() ? "attachment" : name;
+    }
+
+    private static String sanitizeContentType(String contentType) {
+        if (contentType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mediaType.isConcrete() ? mediaType.toString() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private AttachmentDTO.AttachmentResponse mapToResponse(ProjectAttachment attachment) {
+        return new AttachmentDTO.AttachmentResponse(
+                attachment.getId(),
+                attachment.getProject().getId(),
+                attachment.getFileName(),
+                attachment.getContentType(),
+                attachment.getSize(),
+                attachment.getChunkSize(),
+                attachment.getChunkCount(),
+                attachment.getStatus(),
+                attachment.getMissingChunks(),
+                attachment.getSha256(),
+                attachment.getCreatedAt(),
+                attachment.getCompletedAt()
+        );
+    }
+}
@@ -52,7 +52,7 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.password()));
         user.setRole(request.role());
         user.setBalance(BigDecimal.ZERO);
-        user.setAvatarUrl("https://api.dicebear.com/7.x/avataaars/svg?seed=" + request.username());
+        user.setAvatarUrl(AvatarService.urlFor(request.username()));
 
         User savedUser = userRepository.save(user);
 
@@ -74,7 +74,7 @@ public class AuthService {
         return new AuthDTO.AuthResponse(token, mapToUserResponse(user));
     }
 
-    private void validatePasswordSecurity(AuthDTO.RegisterRequest request) {
+    void validatePasswordSecurity(AuthDTO.RegisterRequest request) {
         String password = request.password();
         String normalizedPassword = password.toLowerCase();
 
@@ -94,7 +94,7 @@ public class AuthService {
         }
     }
 
-    private AuthDTO.UserResponse mapToUserResponse(User user) {
+    AuthDTO.UserResponse mapToUserResponse(User user) {
         return new AuthDTO.UserResponse(
                 user.getId(),
                 user.getUsername(),
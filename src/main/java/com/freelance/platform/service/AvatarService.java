@@ -0,0 +1,146 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class AvatarService {
+
+    public static final int MAX_SEED_LENGTH = 64;
+
+    // Bump when the drawing changes so cached copies and ETags from the old generator are invalidated
+    private static final String GENERATOR_VERSION = "i1";
+    private static final int GRID = 5;
+    private static final int CELL = 16;
+    private static final int MARGIN = 8;
+    private static final int SIZE = GRID * CELL + 2 * MARGIN;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Avatar> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AvatarService(MeterRegistry registry, @Value("${avatars.cache-size:4096}") int cacheSize) {
+        this.cache = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Avatar> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = Counter.builder("avatars.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("avatars.cache").tag("result", "miss").register(registry);
+        Gauge.builder("avatars.cache.size", this, AvatarService::cacheSize).register(registry);
+    }
+
+    public record Avatar(String eTag, byte[] svg) {}
+
+    // The firewall rejects encoded slashes, so such names are replaced by their digest
+    public static String urlFor(String username) {
+        String seed = username.matches(".*[/\\\\;%].*") ? HexFormat.of().formatHex(digest(username), 0, 8) : username;
+        return "/api/avatars/" + UriUtils.encodePathSegment(seed, StandardCharsets.UTF_8) + ".svg";
+    }
+
+    public String getETag(String seed) {
+        return eTag(digest(validate(seed)));
+    }
+
+    public Avatar getAvatar(String seed) {
+        validate(seed);
+        lock.lock();
+        try {
+            Avatar cached = cache.get(seed);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        byte[] hash = digest(seed);
+        Avatar avatar = new Avatar(eTag(hash), render(hash));
+        lock.lock();
+        try {
+            cache.put(seed, avatar);
+        } finally {
+            lock.unlock();
+        }
+        return avatar;
+    }
+
+    private int cacheSize() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String validate(String seed) {
+        if (seed == null || seed.isBlank() || seed.length() > MAX_SEED_LENGTH) {
+            throw new BadRequestException("Avatar seed must be between 1 and " + MAX_SEED_LENGTH + " characters");
+        }
+        return seed;
+    }
+
+    private static String eTag(byte[] hash) {
+        return "\"" + GENERATOR_VERSION + "-" + HexFormat.of().formatHex(hash, 0, 12) + "\"";
+    }
+
+    private static byte[] render(byte[] hash) {
+        int hue = ((hash[0] & 0xff) << 8 | (hash[1] & 0xff)) % 360;
+        int saturation = 45 + (hash[2] & 0xff) % 30;
+        int lightness = 40 + (hash[3] & 0xff) % 20;
+
+        StringBuilder svg = new StringBuilder(1024)
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ").append(SIZE).append(' ').append(SIZE)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"hsl(").append(hue).append(",30%,94%)\"/>")
+                .append("<g fill=\"hsl(").append(hue).append(',').append(saturation).append("%,")
+                .append(lightness).append("%)\">");
+
+        // Columns 0..2 come from the hash and are mirrored onto 4..3, one bit per cell
+        int half = (GRID + 1) / 2;
+        for (int row = 0; row < GRID; row++) {
+            for (int col = 0; col < half; col++) {
+                int bit = row * half + col;
+                if ((hash[4 + bit / 8] >> (bit % 8) & 1) == 0) {
+                    continue;
+                }
+                cell(svg, row, col);
+                if (col != GRID - 1 - col) {
+                    cell(svg, row, GRID - 1 - col);
+                }
+            }
+        }
+        return svg.append("</g></svg>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void cell(StringBuilder svg, int row, int col) {
+        svg.append("<rect x=\"").append(MARGIN + col * CELL).append("\" y=\"").append(MARGIN + row * CELL)
+                .append("\" width=\"").append(CELL).append("\" height=\"").append(CELL).append("\"/>");
+    }
+
+    private static byte[] digest(String seed) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(seed.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.UserDTO;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.PayloadTooLargeException;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+// Thumbnails are stored under their content hash, so their URLs are immutable
+@Slf4j
+@Service
+public class AvatarUploadService {
+
+    public static final String URL_PREFIX = "/api/avatars/uploads/";
+
+    private static final Set<String> FORMATS = Set.of("png", "jpeg", "gif");
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{32}-\\d{1,4}\\.(?:png|jpg)");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UserService userService;
+    private final Path directory;
+    private final long maxUploadBytes;
+    private final long maxPixels;
+    private final int size;
+    private final Duration timeout;
+    private final ThreadPoolExecutor thumbnailPool;
+
+    public AvatarUploadService(UserService userService,
+                               MeterRegistry registry,
+                               @Value("${avatars.storage-dir}") Path directory,
+                               @Value("${avatars.max-upload-size:5MB}") DataSize maxUploadSize,
+                               @Value("${avatars.max-pixels:40000000}") long maxPixels,
+                               @Value("${avatars.thumbnail-size:256}") int size,
+                               @Value("${avatars.thumbnail-workers:2}") int workers,
+                               @Value("${avatars.thumbnail-queue:32}") int queueSize,
+                               @Value("${avatars.thumbnail-timeout:30s}") Duration timeout) {
+        this.userService = userService;
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxUploadBytes = maxUploadSize.toBytes();
+        this.maxPixels = maxPixels;
+        this.size = size;
+        this.timeout = timeout;
+        this.thumbnailPool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), Thread.ofPlatform().name("avatar-thumbnail-", 0).factory());
+        new ExecutorServiceMetrics(thumbnailPool, "avatars.thumbnails", Collections.emptyList()).bindTo(registry);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create avatar directory " + this.directory, e);
+        }
+        ImageIO.setUseCache(false);
+    }
+
+    public UserDTO.UserProfileResponse uploadForCurrentUser(InputStream body, long contentLength) {
+        if (contentLength > maxUploadBytes) {
+            throw new PayloadTooLargeException("Avatar must not exceed " + DataSize.ofBytes(maxUploadBytes).toKilobytes() + " KB");
+        }
+
+        Path upload = null;
+        try {
+            upload = Files.createTempFile(directory, "upload-", ".tmp");
+            String hash = receive(body, upload);
+            String fileName = thumbnail(upload, hash);
+            return userService.updateCurrentUserAvatar(URL_PREFIX + fileName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avatar upload failed", e);
+        } finally {
+            if (upload != null) {
+                try {
+                    Files.deleteIfExists(upload);
+                } catch (IOException e) {
+                    log.warn("Could not delete avatar upload {}", upload, e);
+                }
+            }
+        }
+    }
+
+    public Path resolve(String fileName) {
+        Path file = directory.resolve(fileName);
+        if (!FILE_NAME.matcher(fileName).matches() || !Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Avatar not found: " + fileName);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        thumbnailPool.shutdownNow();
+    }
+
+    private String receive(InputStream body, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        long total = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = new DigestInputStream(body, digest);
+             OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    throw new PayloadTooLargeException("Avatar must not exceed " + DataSize.ofBytes(maxUploadBytes).toKilobytes() + " KB");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        if (total == 0) {
+            throw new BadRequestException("Avatar upload is empty");
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private String thumbnail(Path upload, String hash) {
+        Future<String> result;
+        try {
+            result = thumbnailPool.submit(() -> writeThumbnails(upload, hash));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Avatar processing is busy, try again shortly");
+        }
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Avatar processing failed", e.getCause());
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new ServiceUnavailableException("Avatar processing timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new ServiceUnavailableException("Avatar processing was interrupted");
+        }
+    }
+
+    // Decodes only the centred square, subsampled, so a large photo is never fully materialized
+    private String writeThumbnails(Path upload, String hash) throws IOException {
+        BufferedImage source;
+        try (ImageInputStream in = ImageIO.createImageInputStream(upload.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new BadRequestException("Avatar must be a PNG, JPEG or GIF image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if (!FORMATS.contains(reader.getFormatName().toLowerCase(Locale.ROOT))) {
+                    throw new BadRequestException("Avatar must be a PNG, JPEG or GIF image");
+                }
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new BadRequestException("Avatar dimensions are too large: " + width + "x" + height);
+                }
+                int side = Math.min(width, height);
+                int subsampling = Math.max(1, side / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Avatar image could not be decoded");
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        String fileName = hash + "-" + size + "." + (alpha ? "png" : "jpg");
+        Path target = directory.resolve(fileName);
+        if (Files.exists(target)) {
+            return fileName;
+        }
+        BufferedImage scaled = new BufferedImage(size, size, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            graphics.dispose();
+        }
+        // Written next to the target and moved into place, so a reader never sees a half-written file
+        Path partial = Files.createTempFile(directory, "thumbnail-", ".tmp");
+        try {
+            ImageIO.write(scaled, alpha ? "png" : "jpeg", partial.toFile());
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // A concurrent upload of the same image already wrote identical bytes
+            if (!Files.exists(target)) {
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return fileName;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.DashboardDTO;
+import com.freelance.platform.dto.OrderDTO;
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Each branch gets its own read-only transaction; open-session-in-view only covers the request thread
+@Service
+public class DashboardService {
+
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final OrderService orderService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+
+    public DashboardService(UserService userService,
+                            ProjectService projectService,
+                            OrderService orderService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${dashboard.timeout:5s}") Duration timeout) {
+        this.userService = userService;
+        this.projectService = projectService;
+        this.orderService = orderService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeout = timeout;
+    }
+
+    public DashboardDTO.DashboardResponse getDashboard() {
+        User currentUser = userService.getCurrentUser();
+
+        // Not try-with-resources: close() would wait for branches stuck past the timeout
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<List<ProjectDTO.ProjectListResponse>> openProjects = CompletableFuture.supplyAsync(() ->
+                    inTransaction(() -> projectService.getProjectsByStatus(Project.ProjectStatus.OPEN)), executor);
+            CompletableFuture<List<ProjectDTO.ProjectListResponse>> myProjects = CompletableFuture.supplyAsync(() ->
+                    currentUser.getRole().equals(User.UserRole.CLIENT)
+                            ? inTransaction(() -> projectService.getProjectsFor(currentUser))
+                            : List.of(), executor);
+            CompletableFuture<List<OrderDTO.OrderListResponse>> orders = CompletableFuture.supplyAsync(() ->
+                    inTransaction(() -> orderService.getOrdersFor(currentUser)), executor);
+
+            // Fails with the first branch that fails, whichever it is, instead of waiting for the others
+            CompletableFuture<Void> all = CompletableFuture.allOf(openProjects, myProjects, orders);
+            for (CompletableFuture<?> branch : List.of(openProjects, myProjects, orders)) {
+                branch.whenComplete((result, failure) -> {
+                    if (failure != null) {
+                        all.completeExceptionally(failure);
+                    }
+                });
+            }
+            await(all);
+            return new DashboardDTO.DashboardResponse(
+                    userService.mapToProfileResponse(currentUser),
+                    openProjects.join(),
+                    myProjects.join(),
+                    orders.join()
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private void await(CompletableFuture<Void> all) {
+        try {
+            all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException completion ? completion.getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Dashboard query failed", cause);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Loading the dashboard timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building dashboard", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.entity.Tombstone;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.GoneException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// updatedAt is stamped before commit, so the watermark stays a safety window behind now
+final class DeltaSync {
+
+    private DeltaSync() {
+    }
+
+    static Cursor start(LocalDateTime since, String cursor, Duration maxAge) {
+        if ((since == null) == (cursor == null)) {
+            throw new BadRequestException("Pass either since or cursor");
+        }
+        Cursor start = cursor != null ? Cursor.decode(cursor) : new Cursor(since, since, Long.MAX_VALUE, since, Long.MAX_VALUE);
+        if (start.since().isBefore(LocalDateTime.now().minus(maxAge))) {
+            throw new GoneException("Changes are kept for " + maxAge.toDays() + " days; reload instead of syncing");
+        }
+        return start;
+    }
+
+    static int pageSize(Integer limit, int maxPageSize) {
+        return limit == null ? maxPageSize : Math.min(Math.max(limit, 1), maxPageSize);
+    }
+
+    static <T> Page<T> page(Cursor cursor, List<T> updated, Function<T, LocalDateTime> updatedAt, Function<T, Long> id,
+                            List<Tombstone> deleted, int pageSize, Duration safetyWindow) {
+        boolean more = updated.size() > pageSize || deleted.size() > pageSize;
+        List<T> rows = updated.size() > pageSize ? updated.subList(0, pageSize) : updated;
+        List<Tombstone> tombstones = deleted.size() > pageSize ? deleted.subList(0, pageSize) : deleted;
+
+        LocalDateTime updatedPosition = cursor.updatedAt();
+        long updatedId = cursor.updatedId();
+        if (!rows.isEmpty()) {
+            T last = rows.getLast();
+            updatedPosition = updatedAt.apply(last);
+            updatedId = id.apply(last);
+        }
+        LocalDateTime deletedPosition = cursor.deletedAt();
+        long deletedId = cursor.deletedId();
+        if (!tombstones.isEmpty()) {
+            Tombstone last = tombstones.getLast();
+            deletedPosition = last.getDeletedAt();
+            deletedId = last.getId();
+        }
+
+        List<Long> deletedIds = tombstones.stream().map(Tombstone::getEntityId).toList();
+        if (more) {
+            Cursor next = new Cursor(cursor.since(), updatedPosition, updatedId, deletedPosition, deletedId);
+            return new Page<>(rows, deletedIds, null, next.encode());
+        }
+        LocalDateTime latest = updatedPosition.isAfter(deletedPosition) ? updatedPosition : deletedPosition;
+        return new Page<>(rows, deletedIds, watermark(cursor.since(), latest, safetyWindow), null);
+    }
+
+    static LocalDateTime watermark(LocalDateTime since, LocalDateTime latest, Duration safetyWindow) {
+        LocalDateTime settled = LocalDateTime.now().minus(safetyWindow);
+        if (latest.isAfter(settled)) {
+            return since.isAfter(settled) ? since : settled;
+        }
+        return latest;
+    }
+
+    record Page<T>(List<T> updated, List<Long> deleted, LocalDateTime watermark, String nextCursor) {}
+
+    record Cursor(LocalDateTime since, LocalDateTime updatedAt, long updatedId, LocalDateTime deletedAt, long deletedId) {
+
+        String encode() {
+            String value = since + "|" + updatedAt + "|" + updatedId + "|" + deletedAt + "|" + deletedId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 5) {
+                    throw new BadRequestException("Invalid cursor");
+                }
+                return new Cursor(LocalDateTime.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                        LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+// Embedded H2 only honours the fetch size when the session runs queries lazily
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String ORDERS_SQL = "SELECT o.id, o.project_id, p.title AS project_title, "
+            + "o.client_id, c.username AS client_username, o.freelancer_id, f.username AS freelancer_username, "
+            + "o.price, o.status, o.created_at, o.updated_at, o.completed_at "
+            + "FROM orders o JOIN projects p ON p.id = o.project_id "
+            + "JOIN users c ON c.id = o.client_id JOIN users f ON f.id = o.freelancer_id ORDER BY o.id";
+
+    private static final String PROJECTS_SQL = "SELECT p.id, p.title, p.description, p.budget, "
+            + "p.client_id, u.username AS client_username, p.status, p.created_at, p.updated_at, p.closed_at "
+            + "FROM projects p JOIN users u ON u.id = p.client_id ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    public void exportOrders(Format format, OutputStream out) {
+        export(ORDERS_SQL, format, out);
+    }
+
+    public void exportProjects(Format format, OutputStream out) {
+        export(PROJECTS_SQL, format, out);
+    }
+
+    private void export(String sql, Format format, OutputStream out) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            boolean h2 = con.getMetaData().getDatabaseProductName().equals("H2");
+            if (h2) {
+                lazyQueryExecution(con, true);
+            }
+            try (PreparedStatement statement = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (format == Format.CSV) {
+                        writeCsv(rs, out);
+                    } else {
+                        writeNdjson(rs, out);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (h2) {
+                    // The connection goes back to the pool; other queries expect the default mode
+                    lazyQueryExecution(con, false);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void lazyQueryExecution(Connection con, boolean lazy) throws SQLException {
+        try (Statement statement = con.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+
+    // Both writers flush and leave the target open; the caller owns the stream and any wrapping around it
+    private void writeNdjson(ResultSet rs, OutputStream out) throws SQLException {
+        String[] columns = columnNames(rs.getMetaData());
+        int[] types = columnTypes(rs.getMetaData());
+        try (JsonGenerator generator = jsonMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("")
+                .createGenerator(out)) {
+            while (rs.next()) {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    generator.writeName(columns[i]);
+                    Object value = readValue(rs, i + 1, types[i]);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else if (value instanceof Long number) {
+                        generator.writeNumber(number);
+                    } else if (value instanceof BigDecimal number) {
+                        generator.writeNumber(number);
+                    } else {
+                        generator.writeString(value.toString());
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(ResultSet rs, OutputStream out) throws SQLException, IOException {
+        String[] columns = columnNames(rs.getMetaData());
+        int[] types = columnTypes(rs.getMetaData());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+        while (rs.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = readValue(rs, i + 1, types[i]);
+                if (value != null) {
+                    writer.write(csvEscape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static Object readValue(ResultSet rs, int column, int type) throws SQLException {
+        return switch (type) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT -> {
+                long value = rs.getLong(column);
+                yield rs.wasNull() ? null : value;
+            }
+            case Types.DECIMAL, Types.NUMERIC -> rs.getBigDecimal(column);
+            case Types.TIMESTAMP -> rs.getObject(column, LocalDateTime.class);
+            default -> rs.getString(column);
+        };
+    }
+
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String[] columnNames(ResultSetMetaData metaData) throws SQLException {
+        String[] names = new String[metaData.getColumnCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+        }
+        return names;
+    }
+
+    private static int[] columnTypes(ResultSetMetaData metaData) throws SQLException {
+        int[] types = new int[metaData.getColumnCount()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = metaData.getColumnType(i + 1);
+        }
+        return types;
+    }
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+}
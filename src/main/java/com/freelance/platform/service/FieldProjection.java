@@ -0,0 +1,110 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.exception.BadRequestException;
+import jakarta.persistence.Tuple;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+final class FieldProjection {
+
+    private final String from;
+    private final Map<String, Column> columns;
+
+    private FieldProjection(String from, Map<String, Column> columns) {
+        this.from = from;
+        this.columns = columns;
+    }
+
+    static Builder from(String from) {
+        return new Builder(from);
+    }
+
+    List<String> parse(String fields) {
+        List<String> requested = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!columns.containsKey(name)) {
+                throw new BadRequestException("Unknown field '" + name + "'. Allowed fields: " + String.join(",", columns.keySet()));
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            throw new BadRequestException("fields must name at least one of: " + String.join(",", columns.keySet()));
+        }
+        return columns.keySet().stream().filter(requested::contains).toList();
+    }
+
+    // Spelling, order and repeats of the same fields all give the same key
+    String key(String fields) {
+        List<String> selected = parse(fields);
+        BigInteger mask = BigInteger.ZERO;
+        int position = 0;
+        for (String name : columns.keySet()) {
+            if (selected.contains(name)) {
+                mask = mask.setBit(position);
+            }
+            position++;
+        }
+        return mask.toString(16);
+    }
+
+    String query(List<String> fields, String where, String orderBy) {
+        StringBuilder jpql = new StringBuilder("select ");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append(columns.get(fields.get(i)).path());
+        }
+        jpql.append(" from ").append(from);
+        if (where != null) {
+            jpql.append(" where ").append(where);
+        }
+        if (orderBy != null) {
+            jpql.append(" order by ").append(orderBy);
+        }
+        return jpql.toString();
+    }
+
+    Map<String, Object> toMap(List<String> fields, Tuple tuple) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            Object value = tuple.get(i);
+            result.put(fields.get(i), value == null ? null : columns.get(fields.get(i)).converter().apply(value));
+        }
+        return result;
+    }
+
+    private record Column(String path, Function<Object, Object> converter) {}
+
+    static final class Builder {
+
+        private final String from;
+        private final Map<String, Column> columns = new LinkedHashMap<>();
+
+        private Builder(String from) {
+            this.from = from;
+        }
+
+        Builder field(String name, String path) {
+            return field(name, path, Function.identity());
+        }
+
+        Builder field(String name, String path, Function<Object, Object> converter) {
+            columns.put(name, new Column(path, converter));
+            return this;
+        }
+
+        FieldProjection build() {
+            return new FieldProjection(from, new LinkedHashMap<>(columns));
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.repository.CompletedWork;
+import com.freelance.platform.repository.OrderRepository;
+import com.freelance.platform.repository.UserRepository;
+import com.freelance.platform.stream.ChangeConsumer;
+import com.freelance.platform.stream.ChangeEvent;
+import com.freelance.platform.stream.ChangeStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Idf is applied at query time, so a profile change only touches that profile's postings
+@Slf4j
+@Component
+public class FreelancerMatcher implements SmartLifecycle, ChangeConsumer {
+
+    private static final Set<String> PROFILE_PROPERTIES = Set.of("bio", "username", "avatarUrl", "role");
+    private static final Set<String> PROJECT_TEXT_PROPERTIES = Set.of("title", "description");
+    // Below this many postings a term is always scored, so small indexes do not lose their common terms
+    private static final int ALWAYS_SCORED_POSTINGS = 1000;
+
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final ChangeStream changeStream;
+    private final double maxDocumentFrequency;
+    private final ReentrantLock mutation = new ReentrantLock();
+    private volatile Index index = new Index(0);
+    private volatile boolean running;
+
+    public FreelancerMatcher(UserRepository userRepository,
+                             OrderRepository orderRepository,
+                             ChangeStream changeStream,
+                             MeterRegistry registry,
+                             @Value("${matching.max-document-frequency:0.2}") double maxDocumentFrequency) {
+        this.userRepository = userRepository;
+        this.orderRepository = orderRepository;
+        this.changeStream = changeStream;
+        this.maxDocumentFrequency = maxDocumentFrequency;
+        Gauge.builder("matching.freelancers", this, m -> m.index.profiles.size())
+                .description("Freelancer profiles in the matching index")
+                .register(registry);
+    }
+
+    public List<ProjectDTO.FreelancerMatchResponse> match(String title, String description, int limit) {
+        Index current = index;
+        Map<String, Integer> frequencies = frequencies(Terms.words(title, description));
+        int profileCount = current.profiles.size();
+        Profile[] bySlot = current.bySlot;
+        if (profileCount == 0 || frequencies.isEmpty()) {
+            return List.of();
+        }
+
+        Postings[] scored = new Postings[frequencies.size()];
+        float[] factors = new float[frequencies.size()];
+        int scoredTerms = 0;
+        long postingsWalked = 0;
+        double queryNorm = 0;
+        int maxPostings = Math.max(ALWAYS_SCORED_POSTINGS, (int) (maxDocumentFrequency * profileCount));
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            Postings postings = current.postings.get(term.getKey());
+            if (postings == null || postings.slots().length > maxPostings) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (double) profileCount / postings.slots().length);
+            double queryWeight = (1.0 + Math.log(term.getValue())) * idf;
+            queryNorm += queryWeight * queryWeight;
+            scored[scoredTerms] = postings;
+            factors[scoredTerms++] = (float) (queryWeight * idf);
+            postingsWalked += postings.slots().length;
+        }
+
+        Scores scores = new Scores((int) Math.min(postingsWalked, profileCount));
+        for (int t = 0; t < scoredTerms; t++) {
+            int[] slots = scored[t].slots();
+            float[] weights = scored[t].weights();
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] < bySlot.length) {
+                    scores.add(slots[i], factors[t] * weights[i]);
+                }
+            }
+        }
+
+        // Min-heap of the best table entries so far: each costs O(log limit) and most are rejected at the root
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(scores::scoreAt));
+        for (int entry = 0; entry < scores.capacity(); entry++) {
+            if (!scores.isUsed(entry)) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (scores.scoreAt(entry) > scores.scoreAt(best.peek())) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+
+        double norm = Math.sqrt(queryNorm);
+        List<ProjectDTO.FreelancerMatchResponse> matches = new ArrayList<>(best.size());
+        for (int entry : best) {
+            Profile profile = bySlot[scores.slotAt(entry)];
+            if (profile != null) {
+                matches.add(new ProjectDTO.FreelancerMatchResponse(profile.userId(), profile.username(),
+                        profile.avatarUrl(), profile.completedOrders(),
+                        Math.round(scores.scoreAt(entry) / norm * 10000) / 10000.0));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(ProjectDTO.FreelancerMatchResponse::score).reversed()
+                .thenComparing(ProjectDTO.FreelancerMatchResponse::completedOrders, Comparator.reverseOrder())
+                .thenComparing(ProjectDTO.FreelancerMatchResponse::freelancerId));
+        return matches;
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        Set<Long> freelancerIds = new HashSet<>();
+        Set<Long> orderIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (ChangeEvent change : changes) {
+            boolean updated = change.kind() == ChangeEvent.Kind.UPDATED;
+            switch (change.entity()) {
+                case USER -> {
+                    if (!updated || change.changed().stream().anyMatch(PROFILE_PROPERTIES::contains)) {
+                        freelancerIds.add(change.id());
+                    }
+                }
+                case ORDER -> {
+                    if (updated && change.changed().contains("status")) {
+                        orderIds.add(change.id());
+                    }
+                }
+                case PROJECT -> {
+                    if (updated && change.changed().stream().anyMatch(PROJECT_TEXT_PROPERTIES::contains)) {
+                        projectIds.add(change.id());
+                    }
+                }
+            }
+        }
+        if (freelancerIds.isEmpty() && orderIds.isEmpty() && projectIds.isEmpty()) {
+            return;
+        }
+        mutation.lock();
+        try {
+            if (!orderIds.isEmpty()) {
+                freelancerIds.addAll(orderRepository.findFreelancerIdsByIdIn(orderIds));
+            }
+            if (!projectIds.isEmpty()) {
+                freelancerIds.addAll(orderRepository.findFreelancerIdsByProjectIdInAndStatus(
+                        projectIds, Order.OrderStatus.COMPLETED));
+            }
+            Map<Long, User> freelancers = userRepository.findByIdInAndRole(freelancerIds, User.UserRole.FREELANCER)
+                    .stream()
+                    .collect(Collectors.toMap(User::getId, user -> user));
+            Map<Long, List<CompletedWork>> work = orderRepository
+                    .findCompletedWorkByFreelancerIdIn(freelancers.keySet()).stream()
+                    .collect(Collectors.groupingBy(CompletedWork::freelancerId));
+            for (Long id : freelancerIds) {
+                User freelancer = freelancers.get(id);
+                if (freelancer != null) {
+                    index.put(freelancer, work.getOrDefault(id, List.of()));
+                } else {
+                    index.remove(id);
+                }
+            }
+        } finally {
+            mutation.unlock();
+        }
+    }
+
+    @Override
+    public void onOverrun() {
+        rebuild();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        changeStream.subscribe("freelancer-matching", this);
+        Thread.ofVirtual().name("freelancer-matching-load").start(this::rebuild);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void rebuild() {
+        mutation.lock();
+        try {
+            List<User> freelancers = userRepository.findByRole(User.UserRole.FREELANCER);
+            Map<Long, List<CompletedWork>> work = orderRepository.findCompletedWork().stream()
+                    .collect(Collectors.groupingBy(CompletedWork::freelancerId));
+            Index rebuilt = new Index(freelancers.size());
+            Map<String, PostingsBuilder> builders = new HashMap<>();
+            for (User freelancer : freelancers) {
+                Profile profile = rebuilt.assign(freelancer, work.getOrDefault(freelancer.getId(), List.of()));
+                for (int i = 0; i < profile.terms().length; i++) {
+                    builders.computeIfAbsent(profile.terms()[i], term -> new PostingsBuilder())
+                            .add(profile.slot(), profile.weights()[i]);
+                }
+            }
+            builders.forEach((term, builder) -> rebuilt.postings.put(term, builder.build()));
+            index = rebuilt;
+            log.info("Freelancer matching index built with {} profiles and {} terms",
+                    rebuilt.profiles.size(), rebuilt.postings.size());
+        } catch (RuntimeException e) {
+            log.error("Could not build the freelancer matching index", e);
+        } finally {
+            mutation.unlock();
+        }
+    }
+
+    private static Map<String, Integer> frequencies(List<String> words) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        words.forEach(word -> frequencies.merge(word, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private record Profile(long userId, int slot, String username, String avatarUrl, int completedOrders,
+                           String[] terms, float[] weights) {}
+
+    private record Postings(int[] slots, float[] weights) {
+
+        private Postings without(int slot) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] == slot) {
+                    int[] remainingSlots = new int[slots.length - 1];
+                    float[] remainingWeights = new float[slots.length - 1];
+                    System.arraycopy(slots, 0, remainingSlots, 0, i);
+                    System.arraycopy(slots, i + 1, remainingSlots, i, slots.length - i - 1);
+                    System.arraycopy(weights, 0, remainingWeights, 0, i);
+                    System.arraycopy(weights, i + 1, remainingWeights, i, slots.length - i - 1);
+                    return new Postings(remainingSlots, remainingWeights);
+                }
+            }
+            return this;
+        }
+
+        private Postings with(int slot, float weight) {
+            int[] grownSlots = Arrays.copyOf(slots, slots.length + 1);
+            float[] grownWeights = Arrays.copyOf(weights, weights.length + 1);
+            grownSlots[slots.length] = slot;
+            grownWeights[weights.length] = weight;
+            return new Postings(grownSlots, grownWeights);
+        }
+    }
+
+    // Sized by the postings a query walks, not by the whole index
+    private static final class Scores {
+
+        private static final int FREE = -1;
+
+        private int[] slots;
+        private float[] scores;
+        private int size;
+
+        private Scores(int expected) {
+            allocate(Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1);
+        }
+
+        private void add(int slot, float score) {
+            if ((size + 1) * 2 > slots.length) {
+                grow();
+            }
+            int entry = find(slot);
+            if (slots[entry] == FREE) {
+                slots[entry] = slot;
+                size++;
+            }
+            scores[entry] += score;
+        }
+
+        private int capacity() {
+            return slots.length;
+        }
+
+        private boolean isUsed(int entry) {
+            return slots[entry] != FREE;
+        }
+
+        private int slotAt(int entry) {
+            return slots[entry];
+        }
+
+        private float scoreAt(int entry) {
+            return scores[entry];
+        }
+
+        private int find(int slot) {
+            int mask = slots.length - 1;
+            int entry = (slot * 0x9E3779B9) & mask;
+            while (slots[entry] != FREE && slots[entry] != slot) {
+                entry = (entry + 1) & mask;
+            }
+            return entry;
+        }
+
+        private void allocate(int capacity) {
+            slots = new int[capacity];
+            scores = new float[capacity];
+            Arrays.fill(slots, FREE);
+        }
+
+        private void grow() {
+            int[] oldSlots = slots;
+            float[] oldScores = scores;
+            allocate(oldSlots.length * 2);
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != FREE) {
+                    int entry = find(oldSlots[i]);
+                    slots[entry] = oldSlots[i];
+                    scores[entry] = oldScores[i];
+                }
+            }
+        }
+    }
+
+    private static final class PostingsBuilder {
+
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        private void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size++] = weight;
+        }
+
+        private Postings build() {
+            return new Postings(Arrays.copyOf(slots, size), Arrays.copyOf(weights, size));
+        }
+    }
+
+    // A freed slot is never reused, since a running query may still score it
+    private static final class Index {
+
+        private final ConcurrentHashMap<String, Postings> postings = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Profile> profiles = new ConcurrentHashMap<>();
+        private volatile Profile[] bySlot;
+        private int nextSlot;
+
+        private Index(int expectedProfiles) {
+            this.bySlot = new Profile[Math.max(16, expectedProfiles)];
+        }
+
+        private void put(User freelancer, List<CompletedWork> work) {
+            Profile previous = profiles.get(freelancer.getId());
+            if (previous != null) {
+                unlink(previous);
+            }
+            Profile profile;
+            if (previous != null) {
+                profile = profile(freelancer, work, previous.slot());
+                bySlot[profile.slot()] = profile;
+                profiles.put(profile.userId(), profile);
+            } else {
+                profile = assign(freelancer, work);
+            }
+            for (int i = 0; i < profile.terms().length; i++) {
+                float weight = profile.weights()[i];
+                postings.compute(profile.terms()[i], (term, existing) -> existing == null
+                        ? new Postings(new int[]{profile.slot()}, new float[]{weight})
+                        : existing.with(profile.slot(), weight));
+            }
+        }
+
+        private void remove(Long userId) {
+            Profile previous = profiles.remove(userId);
+            if (previous != null) {
+                unlink(previous);
+                bySlot[previous.slot()] = null;
+            }
+        }
+
+        // Takes a new slot and registers the profile; the caller adds its postings
+        private Profile assign(User freelancer, List<CompletedWork> work) {
+            int slot = nextSlot++;
+            if (slot == bySlot.length) {
+                bySlot = Arrays.copyOf(bySlot, slot * 2);
+            }
+            Profile profile = profile(freelancer, work, slot);
+            bySlot[slot] = profile;
+            profiles.put(profile.userId(), profile);
+            return profile;
+        }
+
+        private Profile profile(User freelancer, List<CompletedWork> work, int slot) {
+            List<String> words = new ArrayList<>(Terms.words(freelancer.getBio()));
+            for (CompletedWork completed : work) {
+                words.addAll(Terms.words(completed.title(), completed.description()));
+            }
+            Map<String, Integer> frequencies = frequencies(words);
+            String[] terms = new String[frequencies.size()];
+            float[] weights = new float[frequencies.size()];
+            double norm = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                terms[i] = term.getKey();
+                weights[i] = (float) (1.0 + Math.log(term.getValue()));
+                norm += weights[i] * weights[i];
+                i++;
+            }
+            float scale = norm == 0 ? 0 : (float) (1.0 / Math.sqrt(norm));
+            for (int j = 0; j < weights.length; j++) {
+                weights[j] *= scale;
+            }
+            return new Profile(freelancer.getId(), slot, freelancer.getUsername(), freelancer.getAvatarUrl(),
+                    work.size(), terms, weights);
+        }
+
+        private void unlink(Profile profile) {
+            for (String term : profile.terms()) {
+                postings.computeIfPresent(term, (t, existing) -> {
+                    Postings remaining = existing.without(profile.slot());
+                    return remaining.slots().length == 0 ? null : remaining;
+                });
+            }
+        }
+    }
+}
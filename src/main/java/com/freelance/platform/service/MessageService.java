@@ -0,0 +1,100 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.MessageDTO;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import com.freelance.platform.exception.UnauthorizedException;
+import com.freelance.platform.messaging.ConversationHistory;
+import com.freelance.platform.messaging.MessageIntake;
+import com.freelance.platform.repository.MessageRepository;
+import com.freelance.platform.repository.OrderParticipants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+public class MessageService {
+
+    static final int MAX_BODY_LENGTH = 2000;
+
+    private final ConversationHistory history;
+    private final MessageIntake intake;
+    private final MessageRepository messageRepository;
+    private final UserService userService;
+
+    @Value("${messaging.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${messaging.page.max-size:100}")
+    private int maxPageSize;
+
+    public MessageDTO.MessagePage getMessages(Long orderId, Long before, Integer limit) {
+        User currentUser = userService.getCurrentUser();
+        checkParticipant(orderId, currentUser.getId());
+
+        int pageSize = limit == null ? 50 : Math.min(Math.max(limit, 1), maxPageSize);
+        if (before == null) {
+            MessageDTO.MessagePage latest = history.latest(orderId, pageSize);
+            if (latest != null) {
+                return latest;
+            }
+        }
+
+        List<MessageDTO.MessageResponse> page = messageRepository
+                .findPage(orderId, before == null ? Long.MAX_VALUE : before, Limit.of(pageSize + 1)).stream()
+                .map(ConversationHistory::toResponse)
+                .toList();
+        boolean hasMore = page.size() > pageSize;
+        return new MessageDTO.MessagePage(
+                page.subList(0, Math.min(pageSize, page.size())).reversed(), hasMore);
+    }
+
+    public MessageDTO.MessageResponse sendAsCurrentUser(Long orderId, MessageDTO.SendMessageRequest request) {
+        User currentUser = userService.getCurrentUser();
+        CompletableFuture<MessageDTO.MessageResponse> result =
+                send(orderId, currentUser.getId(), currentUser.getUsername(), request.body(), null);
+        try {
+            return result.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Message could not be sent", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Sending the message timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Sending the message was interrupted");
+        }
+    }
+
+    public CompletableFuture<MessageDTO.MessageResponse> send(Long orderId, Long senderId, String senderUsername,
+                                                              String body, String clientMessageId) {
+        if (body == null || body.isBlank()) {
+            throw new BadRequestException("Message must not be empty");
+        }
+        if (body.length() > MAX_BODY_LENGTH) {
+            throw new BadRequestException("Message must not exceed " + MAX_BODY_LENGTH + " characters");
+        }
+        OrderParticipants participants = checkParticipant(orderId, senderId);
+        return intake.submit(participants, senderId, senderUsername, body, clientMessageId);
+    }
+
+    private OrderParticipants checkParticipant(Long orderId, Long userId) {
+        OrderParticipants participants = history.participants(orderId);
+        if (!participants.includes(userId)) {
+            throw new UnauthorizedException("Only the client and freelancer of an order can use its conversation");
+        }
+        return participants;
+    }
+}
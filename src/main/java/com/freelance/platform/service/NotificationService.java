@@ -0,0 +1,102 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.NotificationDTO;
+import com.freelance.platform.entity.Notification;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import com.freelance.platform.notification.NotificationOutbox;
+import com.freelance.platform.notification.UnreadCounters;
+import com.freelance.platform.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutbox outbox;
+    private final UnreadCounters counters;
+    private final UserService userService;
+
+    @Value("${notifications.mark-read-timeout:5s}")
+    private Duration markReadTimeout;
+
+    @Value("${notifications.page.max-size:100}")
+    private int maxPageSize;
+
+    public NotificationDTO.NotificationPage getNotifications(Long cursor, Integer limit) {
+        User currentUser = userService.getCurrentUser();
+
+        int pageSize = limit == null ? 20 : Math.min(Math.max(limit, 1), maxPageSize);
+        List<Notification> page = notificationRepository.findPage(currentUser.getId(),
+                cursor == null ? Long.MAX_VALUE : cursor, Limit.of(pageSize + 1));
+
+        boolean hasMore = page.size() > pageSize;
+        List<NotificationDTO.NotificationResponse> items = page.stream()
+                .limit(pageSize)
+                .map(this::mapToResponse)
+                .toList();
+        return new NotificationDTO.NotificationPage(
+                items,
+                hasMore ? items.getLast().id() : null,
+                counters.unread(currentUser.getId()));
+    }
+
+    public NotificationDTO.UnreadCount getUnreadCount() {
+        return new NotificationDTO.UnreadCount(counters.unread(userService.getCurrentUser().getId()));
+    }
+
+    public NotificationDTO.UnreadCount markRead(Long id) {
+        User currentUser = userService.getCurrentUser();
+        int updated = await(outbox.markRead(currentUser.getId(), id));
+        if (updated == 0 && !notificationRepository.existsByIdAndRecipientId(id, currentUser.getId())) {
+            throw new ResourceNotFoundException("Notification not found with id: " + id);
+        }
+        return new NotificationDTO.UnreadCount(counters.unread(currentUser.getId()));
+    }
+
+    public NotificationDTO.UnreadCount markAllRead() {
+        User currentUser = userService.getCurrentUser();
+        await(outbox.markRead(currentUser.getId(), null));
+        return new NotificationDTO.UnreadCount(counters.unread(currentUser.getId()));
+    }
+
+    private int await(CompletableFuture<Integer> result) {
+        try {
+            return result.get(markReadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Notifications could not be marked read", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Marking notifications read timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Marking notifications read was interrupted");
+        }
+    }
+
+    private NotificationDTO.NotificationResponse mapToResponse(Notification notification) {
+        return new NotificationDTO.NotificationResponse(
+                notification.getId(),
+                notification.getType(),
+                notification.getMessage(),
+                notification.getOrderId(),
+                notification.getProjectId(),
+                notification.getReadAt() != null,
+                notification.getCreatedAt()
+        );
+    }
+}
@@ -3,19 +3,28 @@ package com.freelance.platform.service;
 import com.freelance.platform.dto.OrderDTO;
 import com.freelance.platform.entity.Order;
 import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.Tombstone;
 import com.freelance.platform.entity.User;
 import com.freelance.platform.exception.BadRequestException;
 import com.freelance.platform.exception.InsufficientFundsException;
 import com.freelance.platform.exception.ResourceNotFoundException;
 import com.freelance.platform.exception.UnauthorizedException;
+import com.freelance.platform.metrics.PlatformMetrics;
+import com.freelance.platform.notification.OrderEvent;
 import com.freelance.platform.repository.OrderRepository;
 import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.TombstoneRepository;
+import com.freelance.platform.repository.VersionStamp;
 import com.freelance.platform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,6 +37,18 @@ public class OrderService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final TombstoneRepository tombstoneRepository;
+    private final PlatformMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${sync.safety-window:5s}")
+    private Duration syncSafetyWindow;
+
+    @Value("${sync.max-age:30d}")
+    private Duration syncMaxAge;
+
+    @Value("${sync.page.max-size:500}")
+    private int maxSyncPageSize;
 
     public List<OrderDTO.OrderListResponse> getAllOrders() {
         return orderRepository.findAll().stream()
@@ -36,14 +57,16 @@ public class OrderService {
     }
 
     public List<OrderDTO.OrderListResponse> getCurrentUserOrders() {
-        User currentUser = userService.getCurrentUser();
-        
-        if (currentUser.getRole().equals(User.UserRole.FREELANCER)) {
-            return orderRepository.findByFreelancer(currentUser).stream()
+        return getOrdersFor(userService.getCurrentUser());
+    }
+
+    List<OrderDTO.OrderListResponse> getOrdersFor(User user) {
+        if (user.getRole().equals(User.UserRole.FREELANCER)) {
+            return orderRepository.findByFreelancer(user).stream()
                     .map(this::mapToListResponse)
                     .collect(Collectors.toList());
-        } else if (currentUser.getRole().equals(User.UserRole.CLIENT)) {
-            return orderRepository.findByClient(currentUser).stream()
+        } else if (user.getRole().equals(User.UserRole.CLIENT)) {
+            return orderRepository.findByClient(user).stream()
                     .map(this::mapToListResponse)
                     .collect(Collectors.toList());
         }
@@ -51,6 +74,57 @@ public class OrderService {
         return List.of();
     }
 
+    public String getCurrentUserOrdersETag() {
+        User currentUser = userService.getCurrentUser();
+
+        VersionStamp version;
+        if (currentUser.getRole().equals(User.UserRole.FREELANCER)) {
+            version = orderRepository.findVersionByFreelancer(currentUser);
+        } else if (currentUser.getRole().equals(User.UserRole.CLIENT)) {
+            version = orderRepository.findVersionByClient(currentUser);
+        } else {
+            version = new VersionStamp(0, null);
+        }
+        return version.toETag("orders-user-" + currentUser.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderDTO.OrderChangesResponse getCurrentUserChangesSince(LocalDateTime since, String cursor, Integer limit) {
+        User currentUser = userService.getCurrentUser();
+        DeltaSync.Cursor position = DeltaSync.start(since, cursor, syncMaxAge);
+        int pageSize = DeltaSync.pageSize(limit, maxSyncPageSize);
+
+        List<Order> updated;
+        if (currentUser.getRole().equals(User.UserRole.FREELANCER)) {
+            updated = orderRepository.findChangedForFreelancer(currentUser, position.updatedAt(), position.updatedId(),
+                    Limit.of(pageSize + 1));
+        } else if (currentUser.getRole().equals(User.UserRole.CLIENT)) {
+            updated = orderRepository.findChangedForClient(currentUser, position.updatedAt(), position.updatedId(),
+                    Limit.of(pageSize + 1));
+        } else {
+            updated = List.of();
+        }
+        List<Tombstone> deleted = tombstoneRepository.findPage(Tombstone.EntityType.ORDER,
+                position.deletedAt(), position.deletedId(), Limit.of(pageSize + 1));
+
+        DeltaSync.Page<Order> page = DeltaSync.page(position, updated, Order::getUpdatedAt, Order::getId,
+                deleted, pageSize, syncSafetyWindow);
+        return new OrderDTO.OrderChangesResponse(
+                page.watermark(),
+                page.updated().stream().map(this::mapToListResponse).toList(),
+                page.deleted(),
+                page.nextCursor());
+    }
+
+    // Orders show the project title, so a rename has to move their versions as well
+    void projectRenamed(Long projectId) {
+        orderRepository.touchByProjectId(projectId, LocalDateTime.now());
+    }
+
+    boolean projectHasOrders(Long projectId) {
+        return orderRepository.existsByProjectId(projectId);
+    }
+
     public OrderDTO.OrderResponse getOrderById(Long id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
@@ -103,6 +177,9 @@ public class OrderService {
         userRepository.save(currentUser);
 
         Order savedOrder = orderRepository.save(order);
+        metrics.orderStatusChanged(Order.OrderStatus.PENDING);
+        metrics.moneyEscrowed(request.price());
+        eventPublisher.publishEvent(OrderEvent.of(savedOrder, currentUser.getId()));
         return mapToDetailResponse(savedOrder);
     }
 
@@ -128,9 +205,14 @@ public class OrderService {
             throw new UnauthorizedException("Only the client can cancel the order");
         }
 
+        boolean changed = !order.getStatus().equals(request.status());
         order.setStatus(request.status());
 
         Order updatedOrder = orderRepository.save(order);
+        if (changed) {
+            metrics.orderStatusChanged(request.status());
+            eventPublisher.publishEvent(OrderEvent.of(updatedOrder, currentUser.getId()));
+        }
         return mapToDetailResponse(updatedOrder);
     }
 
@@ -157,6 +239,9 @@ public class OrderService {
         userRepository.save(freelancer);
 
         Order completedOrder = orderRepository.save(order);
+        metrics.orderStatusChanged(Order.OrderStatus.COMPLETED);
+        metrics.moneyReleased(order.getPrice());
+        eventPublisher.publishEvent(OrderEvent.of(completedOrder, currentUser.getId()));
         return mapToDetailResponse(completedOrder);
     }
 
@@ -182,9 +267,12 @@ public class OrderService {
         userRepository.save(client);
 
         orderRepository.save(order);
+        metrics.orderStatusChanged(Order.OrderStatus.CANCELLED);
+        metrics.moneyRefunded(order.getPrice());
+        eventPublisher.publishEvent(OrderEvent.of(order, currentUser.getId()));
     }
 
-    private OrderDTO.OrderResponse mapToDetailResponse(Order order) {
+    OrderDTO.OrderResponse mapToDetailResponse(Order order) {
         return new OrderDTO.OrderResponse(
                 order.getId(),
                 order.getProject().getId(),
@@ -201,7 +289,7 @@ public class OrderService {
         );
     }
 
-    private OrderDTO.OrderListResponse mapToListResponse(Order order) {
+    OrderDTO.OrderListResponse mapToListResponse(Order order) {
         return new OrderDTO.OrderListResponse(
                 order.getId(),
                 order.getProject().getTitle(),
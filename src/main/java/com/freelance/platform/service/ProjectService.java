@@ -2,24 +2,78 @@ package com.freelance.platform.service;
 
 import com.freelance.platform.dto.ProjectDTO;
 import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.Tombstone;
 import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.BadRequestException;
 import com.freelance.platform.exception.ResourceNotFoundException;
 import com.freelance.platform.exception.UnauthorizedException;
 import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.ProjectionRepository;
+import com.freelance.platform.repository.TombstoneRepository;
+import com.freelance.platform.repository.VersionStamp;
+import com.freelance.platform.stream.ProjectEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final FieldProjection PROJECT_FIELDS = FieldProjection.from("Project p join p.client c")
+            .field("id", "p.id")
+            .field("title", "p.title")
+            .field("description", "p.description")
+            .field("budget", "p.budget", Object::toString)
+            .field("clientId", "c.id")
+            .field("clientUsername", "c.username")
+            .field("status", "p.status")
+            .field("createdAt", "p.createdAt")
+            .field("updatedAt", "p.updatedAt")
+            .field("closedAt", "p.closedAt")
+            .build();
+
+    private static final FieldProjection PROJECT_LIST_FIELDS = FieldProjection.from("Project p join p.client c")
+            .field("id", "p.id")
+            .field("title", "p.title")
+            .field("budget", "p.budget", Object::toString)
+            .field("clientUsername", "c.username")
+            .field("status", "p.status")
+            .field("createdAt", "p.createdAt")
+            .build();
+
     private final ProjectRepository projectRepository;
     private final UserService userService;
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectionRepository projectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimilarProjectIndex similarProjectIndex;
+    private final FreelancerMatcher freelancerMatcher;
+    private final OrderService orderService;
+
+    @Value("${sync.safety-window:5s}")
+    private Duration syncSafetyWindow;
+
+    @Value("${sync.max-age:30d}")
+    private Duration syncMaxAge;
+
+    @Value("${sync.page.max-size:500}")
+    private int maxSyncPageSize;
+
+    @Value("${projects.similar.max-size:50}")
+    private int maxSimilar;
+
+    @Value("${matching.max-size:50}")
+    private int maxMatches;
 
     public List<ProjectDTO.ProjectListResponse> getAllProjects() {
         return projectRepository.findAll().stream()
@@ -33,19 +87,109 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    public List<Map<String, Object>> getProjectFields(Project.ProjectStatus status, String fields) {
+        List<String> selected = PROJECT_LIST_FIELDS.parse(fields);
+        String jpql = PROJECT_LIST_FIELDS.query(selected, status != null ? "p.status = :status" : null, "p.id");
+        return projectionRepository.select(jpql, status != null ? Map.of("status", status) : Map.of()).stream()
+                .map(tuple -> PROJECT_LIST_FIELDS.toMap(selected, tuple))
+                .toList();
+    }
+
+    public String getProjectListFieldsKey(String fields) {
+        return PROJECT_LIST_FIELDS.key(fields);
+    }
+
     public List<ProjectDTO.ProjectListResponse> getCurrentUserProjects() {
-        User currentUser = userService.getCurrentUser();
-        return projectRepository.findByClient(currentUser).stream()
+        return getProjectsFor(userService.getCurrentUser());
+    }
+
+    List<ProjectDTO.ProjectListResponse> getProjectsFor(User client) {
+        return projectRepository.findByClient(client).stream()
                 .map(this::mapToListResponse)
                 .collect(Collectors.toList());
     }
 
+    public String getProjectsETag(Project.ProjectStatus status) {
+        if (status != null) {
+            return projectRepository.findVersionByStatus(status).toETag("projects-" + status);
+        }
+        return projectRepository.findVersion().toETag("projects");
+    }
+
+    public String getCurrentUserProjectsETag() {
+        User currentUser = userService.getCurrentUser();
+        return projectRepository.findVersionByClient(currentUser).toETag("projects-client-" + currentUser.getId());
+    }
+
+    public String getProjectETag(Long id) {
+        VersionStamp version = projectRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new ResourceNotFoundException("Project not found with id: " + id);
+        }
+        return version.toETag("project-" + id);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectDTO.ProjectChangesResponse getChangesSince(LocalDateTime since, String cursor, Integer limit) {
+        DeltaSync.Cursor position = DeltaSync.start(since, cursor, syncMaxAge);
+        int pageSize = DeltaSync.pageSize(limit, maxSyncPageSize);
+        DeltaSync.Page<Project> page = DeltaSync.page(position,
+                projectRepository.findChangedAfter(position.updatedAt(), position.updatedId(), Limit.of(pageSize + 1)),
+                Project::getUpdatedAt, Project::getId,
+                tombstoneRepository.findPage(Tombstone.EntityType.PROJECT, position.deletedAt(), position.deletedId(),
+                        Limit.of(pageSize + 1)),
+                pageSize, syncSafetyWindow);
+        return new ProjectDTO.ProjectChangesResponse(
+                page.watermark(),
+                page.updated().stream().map(this::mapToListResponse).toList(),
+                page.deleted(),
+                page.nextCursor());
+    }
+
+    public String getProjectFieldsKey(String fields) {
+        return PROJECT_FIELDS.key(fields);
+    }
+
+    public Map<String, Object> getProjectFieldsById(Long id, String fields) {
+        List<String> selected = PROJECT_FIELDS.parse(fields);
+        return projectionRepository.select(PROJECT_FIELDS.query(selected, "p.id = :id", null), Map.of("id", id)).stream()
+                .findFirst()
+                .map(tuple -> PROJECT_FIELDS.toMap(selected, tuple))
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+    }
+
     public ProjectDTO.ProjectResponse getProjectById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         return mapToDetailResponse(project);
     }
 
+    public List<ProjectDTO.SimilarProjectResponse> getSimilarProjects(Long id, Integer limit) {
+        int size = limit == null ? 10 : Math.min(Math.max(limit, 1), maxSimilar);
+        List<ProjectDTO.SimilarProjectResponse> similar = similarProjectIndex.similar(id, size);
+        if (similar != null) {
+            return similar;
+        }
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        return similarProjectIndex.similarTo(project.getTitle(), project.getDescription(), id, size);
+    }
+
+    // Candidates for the project's freelancerId when creating an order, best match first
+    public List<ProjectDTO.FreelancerMatchResponse> getFreelancerMatches(Long id, Integer limit) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+
+        User currentUser = userService.getCurrentUser();
+        if (!project.getClient().getId().equals(currentUser.getId()) &&
+            !currentUser.getRole().equals(User.UserRole.ADMIN)) {
+            throw new UnauthorizedException("Only the project owner can view freelancer matches");
+        }
+
+        int size = limit == null ? 10 : Math.min(Math.max(limit, 1), maxMatches);
+        return freelancerMatcher.match(project.getTitle(), project.getDescription(), size);
+    }
+
     @Transactional
     public ProjectDTO.ProjectResponse createProject(ProjectDTO.CreateProjectRequest request) {
         User currentUser = userService.getCurrentUser();
@@ -62,6 +206,7 @@ public class ProjectService {
         project.setStatus(Project.ProjectStatus.OPEN);
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectEvent(ProjectEvent.Type.CREATED, mapToListResponse(savedProject)));
         return mapToDetailResponse(savedProject);
     }
 
@@ -77,6 +222,9 @@ public class ProjectService {
         }
 
         if (request.title() != null) {
+            if (!request.title().equals(project.getTitle())) {
+                orderService.projectRenamed(id);
+            }
             project.setTitle(request.title());
         }
 
@@ -97,6 +245,7 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectEvent(ProjectEvent.Type.UPDATED, mapToListResponse(updatedProject)));
         return mapToDetailResponse(updatedProject);
     }
 
@@ -112,7 +261,16 @@ public class ProjectService {
             throw new UnauthorizedException("You can only delete your own projects");
         }
 
+        // Orders keep the payment and work history, so a project that has any can only be closed
+        if (orderService.projectHasOrders(id)) {
+            throw new BadRequestException("Projects with orders cannot be deleted; close the project instead");
+        }
+
+        ProjectDTO.ProjectListResponse deleted = mapToListResponse(project);
         projectRepository.delete(project);
+        tombstoneRepository.save(new Tombstone(Tombstone.EntityType.PROJECT, id));
+        tombstoneRepository.deleteExpired(Tombstone.EntityType.PROJECT, LocalDateTime.now().minus(syncMaxAge));
+        eventPublisher.publishEvent(new ProjectEvent(ProjectEvent.Type.DELETED, deleted));
     }
 
     @Transactional
@@ -130,10 +288,11 @@ public class ProjectService {
         project.setClosedAt(LocalDateTime.now());
 
         Project closedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectEvent(ProjectEvent.Type.CLOSED, mapToListResponse(closedProject)));
         return mapToDetailResponse(closedProject);
     }
 
-    private ProjectDTO.ProjectResponse mapToDetailResponse(Project project) {
+    ProjectDTO.ProjectResponse mapToDetailResponse(Project project) {
         return new ProjectDTO.ProjectResponse(
                 project.getId(),
                 project.getTitle(),
@@ -148,7 +307,7 @@ public class ProjectService {
         );
     }
 
-    private ProjectDTO.ProjectListResponse mapToListResponse(Project project) {
+    ProjectDTO.ProjectListResponse mapToListResponse(Project project) {
         return new ProjectDTO.ProjectListResponse(
                 project.getId(),
                 project.getTitle(),
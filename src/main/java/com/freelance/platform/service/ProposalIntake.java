@@ -0,0 +1,120 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.concurrent.GroupCommitLifecycle;
+import com.freelance.platform.concurrent.GroupCommitWriter;
+import com.freelance.platform.entity.Proposal;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class ProposalIntake extends GroupCommitLifecycle {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ProposalRankings rankings;
+    private final GroupCommitWriter<Pending> writer;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final int batchSize;
+    private final Duration timeout;
+    private final Counter rejected;
+
+    public ProposalIntake(EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          ProposalRankings rankings,
+                          MeterRegistry registry,
+                          @Value("${proposals.intake.queue-size:10000}") int queueSize,
+                          @Value("${proposals.intake.batch-size:200}") int batchSize,
+                          @Value("${proposals.intake.timeout:10s}") Duration timeout) {
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rankings = rankings;
+        this.writer = new GroupCommitWriter<>("proposals.intake", "Proposals", queueSize, batchSize, registry,
+                this::persist, ProposalIntake::failed);
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.rejected = Counter.builder("proposals.intake.rejected")
+                .description("Proposals turned away because the intake queue was full")
+                .register(registry);
+    }
+
+    public Proposal submit(Proposal proposal) {
+        String key = proposal.getProject().getId() + ":" + proposal.getFreelancer().getId();
+        if (!inFlight.add(key)) {
+            throw new BadRequestException("You have already submitted a proposal for this project");
+        }
+        Pending pending = new Pending(proposal, new CompletableFuture<>());
+        try {
+            if (!writer.offer(pending)) {
+                rejected.increment();
+                throw new ServiceUnavailableException("Proposal intake is busy, try again shortly");
+            }
+            return pending.result().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Proposal could not be saved", e.getCause());
+        } catch (TimeoutException e) {
+            // The proposal may still be written; the client finds it in its proposal list
+            throw new ServiceUnavailableException("Proposal intake timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Proposal submission was interrupted");
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    @Override
+    protected GroupCommitWriter<?> writer() {
+        return writer;
+    }
+
+    @Override
+    protected Duration stopTimeout() {
+        return timeout;
+    }
+
+    // A rolled-back batch keeps the ids it was assigned, which the one-by-one replay must not reuse
+    private void persist(List<Pending> batch) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                batch.forEach(pending -> entityManager.persist(pending.proposal()));
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.proposal().setId(null));
+            throw e;
+        }
+        for (Pending pending : batch) {
+            rankings.added(pending.proposal());
+            pending.result().complete(pending.proposal());
+        }
+    }
+
+    private static void failed(Pending pending, RuntimeException e) {
+        pending.result().completeExceptionally(e instanceof DataIntegrityViolationException
+                ? new BadRequestException("You have already submitted a proposal for this project")
+                : e);
+    }
+
+    private record Pending(Proposal proposal, CompletableFuture<Proposal> result) {}
+}
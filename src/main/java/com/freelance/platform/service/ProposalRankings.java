@@ -0,0 +1,150 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.concurrent.LoadingLru;
+import com.freelance.platform.dto.ProposalDTO;
+import com.freelance.platform.entity.Proposal;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.repository.ProposalRepository;
+import com.freelance.platform.stream.ProjectEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Ordered by score then id, so a page cursor is a skip-list seek rather than an offset scan
+@Component
+public class ProposalRankings {
+
+    static final int PREVIEW_LENGTH = 200;
+
+    private final ProposalRepository proposalRepository;
+    private final LoadingLru<Long, Ranking> rankings;
+
+    public ProposalRankings(ProposalRepository proposalRepository,
+                            MeterRegistry registry,
+                            @Value("${proposals.ranking.max-projects:1000}") int maxProjects) {
+        this.proposalRepository = proposalRepository;
+        this.rankings = new LoadingLru<>("proposals.rankings", "Ranked proposal views", maxProjects, registry);
+    }
+
+    public ProposalDTO.ProposalPage page(Long projectId, String cursor, int limit) {
+        Ranking ranking = ranking(projectId);
+        ConcurrentNavigableMap<RankKey, ProposalDTO.RankedProposalResponse> view = cursor == null
+                ? ranking.ordered
+                : ranking.ordered.tailMap(RankKey.parse(cursor), false);
+
+        List<ProposalDTO.RankedProposalResponse> items = new ArrayList<>(limit);
+        RankKey last = null;
+        Iterator<Map.Entry<RankKey, ProposalDTO.RankedProposalResponse>> it = view.entrySet().iterator();
+        while (it.hasNext() && items.size() < limit) {
+            Map.Entry<RankKey, ProposalDTO.RankedProposalResponse> entry = it.next();
+            items.add(entry.getValue());
+            last = entry.getKey();
+        }
+        String nextCursor = it.hasNext() && last != null ? last.format() : null;
+        return new ProposalDTO.ProposalPage(items, nextCursor, ranking.byId.size());
+    }
+
+    void added(Proposal proposal) {
+        Ranking ranking = rankings.getIfPresent(proposal.getProject().getId());
+        if (ranking != null) {
+            ranking.add(proposal);
+        }
+    }
+
+    // Called after a proposal left PENDING and the change has committed
+    void removed(Long projectId, Long proposalId) {
+        Ranking ranking = rankings.getIfPresent(projectId);
+        if (ranking != null) {
+            ranking.remove(proposalId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectEvent(ProjectEvent event) {
+        if (event.type() == ProjectEvent.Type.DELETED || event.type() == ProjectEvent.Type.CLOSED) {
+            rankings.remove(event.project().id());
+        }
+    }
+
+    // Adds are idempotent and removals are remembered, so updates racing the load are safe
+    private Ranking ranking(Long projectId) {
+        return rankings.get(projectId, Ranking::new, (id, ranking) ->
+                proposalRepository.findByProjectIdAndStatus(id, Proposal.ProposalStatus.PENDING).forEach(ranking::add));
+    }
+
+    private static ProposalDTO.RankedProposalResponse toResponse(Proposal proposal) {
+        String coverLetter = proposal.getCoverLetter();
+        String preview = coverLetter == null || coverLetter.length() <= PREVIEW_LENGTH
+                ? coverLetter
+                : coverLetter.substring(0, PREVIEW_LENGTH);
+        return new ProposalDTO.RankedProposalResponse(
+                proposal.getId(),
+                proposal.getFreelancer().getId(),
+                proposal.getFreelancer().getUsername(),
+                proposal.getFreelancer().getAvatarUrl(),
+                proposal.getPrice().toString(),
+                preview,
+                proposal.getRating(),
+                proposal.getScore(),
+                proposal.getCreatedAt()
+        );
+    }
+
+    private static final class Ranking {
+
+        private final ConcurrentSkipListMap<RankKey, ProposalDTO.RankedProposalResponse> ordered = new ConcurrentSkipListMap<>();
+        private final Map<Long, RankKey> byId = new ConcurrentHashMap<>();
+        // Proposals removed while the view may still be loading, so a stale read cannot put them back
+        private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+        private void add(Proposal proposal) {
+            RankKey key = new RankKey(proposal.getScore(), proposal.getId());
+            if (!removed.contains(proposal.getId()) && byId.putIfAbsent(proposal.getId(), key) == null) {
+                ordered.put(key, toResponse(proposal));
+            }
+        }
+
+        private void remove(Long id) {
+            removed.add(id);
+            RankKey key = byId.remove(id);
+            if (key != null) {
+                ordered.remove(key);
+            }
+        }
+    }
+
+    // Highest score first, newest id breaking ties
+    private record RankKey(double score, long id) implements Comparable<RankKey> {
+
+        @Override
+        public int compareTo(RankKey other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : Long.compare(other.id, id);
+        }
+
+        private String format() {
+            return Long.toHexString(Double.doubleToLongBits(score)) + "." + Long.toHexString(id);
+        }
+
+        private static RankKey parse(String cursor) {
+            int dot = cursor.indexOf('.');
+            try {
+                return new RankKey(Double.longBitsToDouble(Long.parseUnsignedLong(cursor.substring(0, dot), 16)),
+                        Long.parseLong(cursor.substring(dot + 1), 16));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+        }
+    }
+}
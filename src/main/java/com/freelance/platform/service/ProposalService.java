@@ -0,0 +1,222 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.OrderDTO;
+import com.freelance.platform.dto.ProposalDTO;
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.Proposal;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.BadRequestException;
+import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.exception.UnauthorizedException;
+import com.freelance.platform.repository.OrderRepository;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.ProposalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class ProposalService {
+
+    private static final Instant SCORE_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final double MAX_RATING = 5.0;
+
+    private final ProposalRepository proposalRepository;
+    private final ProjectRepository projectRepository;
+    private final OrderRepository orderRepository;
+    private final UserService userService;
+    private final OrderService orderService;
+    private final ProposalIntake intake;
+    private final ProposalRankings rankings;
+
+    @Value("${proposals.ranking.price-weight:1.0}")
+    private double priceWeight;
+
+    @Value("${proposals.ranking.rating-weight:1.0}")
+    private double ratingWeight;
+
+    @Value("${proposals.ranking.recency-weight-per-day:0.05}")
+    private double recencyWeightPerDay;
+
+    @Value("${proposals.page.max-size:100}")
+    private int maxPageSize;
+
+    public ProposalDTO.ProposalResponse submitProposal(Long projectId, ProposalDTO.CreateProposalRequest request) {
+        User currentUser = userService.getCurrentUser();
+
+        if (!currentUser.getRole().equals(User.UserRole.FREELANCER)) {
+            throw new UnauthorizedException("Only freelancers can submit proposals");
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+
+        if (!project.getStatus().equals(Project.ProjectStatus.OPEN)) {
+            throw new BadRequestException("Project is not open for proposals");
+        }
+
+        if (proposalRepository.existsByProjectIdAndFreelancerId(projectId, currentUser.getId())) {
+            throw new BadRequestException("You have already submitted a proposal for this project");
+        }
+
+        double rating = rating(currentUser.getId());
+        Proposal proposal = new Proposal();
+        proposal.setProject(project);
+        proposal.setFreelancer(currentUser);
+        proposal.setPrice(request.price().setScale(2, RoundingMode.HALF_UP));
+        proposal.setCoverLetter(request.coverLetter());
+        proposal.setRating(rating);
+        proposal.setScore(score(request.price(), project.getBudget(), rating, Instant.now()));
+        proposal.setStatus(Proposal.ProposalStatus.PENDING);
+
+        return mapToResponse(intake.submit(proposal));
+    }
+
+    public ProposalDTO.ProposalPage getRankedProposals(Long projectId, String cursor, Integer limit) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+
+        User currentUser = userService.getCurrentUser();
+        if (!project.getClient().getId().equals(currentUser.getId()) &&
+            !currentUser.getRole().equals(User.UserRole.ADMIN)) {
+            throw new UnauthorizedException("Only the project owner can view its proposals");
+        }
+
+        int pageSize = limit == null ? 20 : Math.min(Math.max(limit, 1), maxPageSize);
+        return rankings.page(projectId, cursor, pageSize);
+    }
+
+    public ProposalDTO.ProposalResponse getProposal(Long projectId, Long id) {
+        Proposal proposal = findProposal(projectId, id);
+
+        User currentUser = userService.getCurrentUser();
+        if (!proposal.getFreelancer().getId().equals(currentUser.getId()) &&
+            !proposal.getProject().getClient().getId().equals(currentUser.getId()) &&
+            !currentUser.getRole().equals(User.UserRole.ADMIN)) {
+            throw new UnauthorizedException("You don't have permission to view this proposal");
+        }
+
+        return mapToResponse(proposal);
+    }
+
+    public List<ProposalDTO.ProposalResponse> getCurrentUserProposals() {
+        User currentUser = userService.getCurrentUser();
+        return proposalRepository.findByFreelancerIdOrderByIdDesc(currentUser.getId()).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    // Goes through the regular order path so escrow and balance checks apply
+    @Transactional
+    public OrderDTO.OrderResponse acceptProposal(Long projectId, Long id) {
+        Proposal proposal = findOwnedPendingProposal(projectId, id);
+
+        OrderDTO.OrderResponse order = orderService.createOrder(new OrderDTO.CreateOrderRequest(
+                projectId, proposal.getFreelancer().getId(), proposal.getPrice()));
+
+        changeStatus(proposal, Proposal.ProposalStatus.ACCEPTED);
+        return order;
+    }
+
+    @Transactional
+    public ProposalDTO.ProposalResponse rejectProposal(Long projectId, Long id) {
+        Proposal proposal = findOwnedPendingProposal(projectId, id);
+        changeStatus(proposal, Proposal.ProposalStatus.REJECTED);
+        return mapToResponse(proposal);
+    }
+
+    @Transactional
+    public void withdrawProposal(Long projectId, Long id) {
+        Proposal proposal = findProposal(projectId, id);
+
+        User currentUser = userService.getCurrentUser();
+        if (!proposal.getFreelancer().getId().equals(currentUser.getId())) {
+            throw new UnauthorizedException("You can only withdraw your own proposals");
+        }
+
+        if (!proposal.getStatus().equals(Proposal.ProposalStatus.PENDING)) {
+            throw new BadRequestException("Only pending proposals can be withdrawn");
+        }
+
+        changeStatus(proposal, Proposal.ProposalStatus.WITHDRAWN);
+    }
+
+    // Laplace-smoothed completion rate scaled to 0-5, so a newcomer starts in the middle
+    double rating(Long freelancerId) {
+        long completed = orderRepository.countByFreelancerIdAndStatus(freelancerId, Order.OrderStatus.COMPLETED);
+        long cancelled = orderRepository.countByFreelancerIdAndStatus(freelancerId, Order.OrderStatus.CANCELLED);
+        double rating = MAX_RATING * (completed + 1) / (completed + cancelled + 2);
+        return Math.round(rating * 100) / 100.0;
+    }
+
+    // Recency is linear in submission time, so the ordering never changes after insertion
+    double score(BigDecimal price, BigDecimal budget, double rating, Instant submittedAt) {
+        double priceRatio = budget.signum() > 0
+                ? price.divide(budget, 4, RoundingMode.HALF_UP).doubleValue()
+                : 1.0;
+        double priceScore = Math.clamp(1.0 - priceRatio / 2, 0.0, 1.0);
+        double days = Duration.between(SCORE_EPOCH, submittedAt).toSeconds() / 86400.0;
+        return priceWeight * priceScore + ratingWeight * rating / MAX_RATING + recencyWeightPerDay * days;
+    }
+
+    private Proposal findProposal(Long projectId, Long id) {
+        return proposalRepository.findByIdAndProjectId(id, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Proposal not found with id: " + id));
+    }
+
+    private Proposal findOwnedPendingProposal(Long projectId, Long id) {
+        Proposal proposal = findProposal(projectId, id);
+
+        User currentUser = userService.getCurrentUser();
+        if (!proposal.getProject().getClient().getId().equals(currentUser.getId())) {
+            throw new UnauthorizedException("Only the project owner can decide on proposals");
+        }
+
+        if (!proposal.getStatus().equals(Proposal.ProposalStatus.PENDING)) {
+            throw new BadRequestException("Proposal has already been " + proposal.getStatus().name().toLowerCase(Locale.ROOT));
+        }
+        return proposal;
+    }
+
+    // The ranked view only changes once the status change is durable
+    private void changeStatus(Proposal proposal, Proposal.ProposalStatus status) {
+        proposal.setStatus(status);
+        proposalRepository.save(proposal);
+
+        Long projectId = proposal.getProject().getId();
+        Long proposalId = proposal.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rankings.removed(projectId, proposalId);
+            }
+        });
+    }
+
+    private ProposalDTO.ProposalResponse mapToResponse(Proposal proposal) {
+        return new ProposalDTO.ProposalResponse(
+                proposal.getId(),
+                proposal.getProject().getId(),
+                proposal.getProject().getTitle(),
+                proposal.getFreelancer().getId(),
+                proposal.getFreelancer().getUsername(),
+                proposal.getPrice().toString(),
+                proposal.getCoverLetter(),
+                proposal.getRating(),
+                proposal.getStatus(),
+                proposal.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,294 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.stream.ChangeConsumer;
+import com.freelance.platform.stream.ChangeEvent;
+import com.freelance.platform.stream.ChangeStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Banded MinHash over word and word-pair shingles; a query only scores projects sharing a band
+@Slf4j
+@Component
+public class SimilarProjectIndex implements SmartLifecycle, ChangeConsumer {
+
+    private static final Set<String> INDEXED_PROPERTIES = Set.of("title", "description", "budget", "status");
+    private static final int[] EMPTY = new int[0];
+
+    private final ProjectRepository projectRepository;
+    private final ChangeStream changeStream;
+    private final int numHashes;
+    private final int bands;
+    private final int rows;
+    private final int maxCandidates;
+    private final double minSimilarity;
+    private final long[] seeds;
+    private final ReentrantLock mutation = new ReentrantLock();
+    private volatile Index index = new Index();
+    private volatile boolean running;
+
+    public SimilarProjectIndex(ProjectRepository projectRepository,
+                               ChangeStream changeStream,
+                               MeterRegistry registry,
+                               @Value("${projects.similar.num-hashes:128}") int numHashes,
+                               @Value("${projects.similar.bands:32}") int bands,
+                               @Value("${projects.similar.max-candidates:2000}") int maxCandidates,
+                               @Value("${projects.similar.min-similarity:0.2}") double minSimilarity) {
+        if (numHashes % bands != 0) {
+            throw new IllegalArgumentException("projects.similar.num-hashes must be a multiple of projects.similar.bands");
+        }
+        this.projectRepository = projectRepository;
+        this.changeStream = changeStream;
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.maxCandidates = maxCandidates;
+        this.minSimilarity = minSimilarity;
+        this.seeds = new long[numHashes];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < numHashes; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(seed);
+        }
+        Gauge.builder("projects.similar.indexed", this, s -> s.index.entries.size())
+                .description("Open projects in the similar-project index")
+                .register(registry);
+    }
+
+    // Null when the project is not in the index
+    public List<ProjectDTO.SimilarProjectResponse> similar(Long projectId, int limit) {
+        Index current = index;
+        Entry entry = current.entries.get(projectId);
+        return entry == null ? null : query(current, entry.signature(), projectId, limit);
+    }
+
+    public List<ProjectDTO.SimilarProjectResponse> similarTo(String title, String description, Long excludeId, int limit) {
+        return query(index, signature(title, description), excludeId, limit);
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        Set<Long> changed = new HashSet<>();
+        for (ChangeEvent change : changes) {
+            if (change.entity() == ChangeEvent.Entity.PROJECT && (change.kind() != ChangeEvent.Kind.UPDATED ||
+                    change.changed().stream().anyMatch(INDEXED_PROPERTIES::contains))) {
+                changed.add(change.id());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        mutation.lock();
+        try {
+            Map<Long, Project> current = new LinkedHashMap<>();
+            projectRepository.findWithClientByIdIn(changed).forEach(project -> current.put(project.getId(), project));
+            for (Long id : changed) {
+                Project project = current.get(id);
+                if (project != null && project.getStatus() == Project.ProjectStatus.OPEN) {
+                    index.put(entry(project));
+                } else {
+                    index.remove(id);
+                }
+            }
+        } finally {
+            mutation.unlock();
+        }
+    }
+
+    @Override
+    public void onOverrun() {
+        rebuild();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // Subscribed before loading, so a change committed during the load is applied after it
+        changeStream.subscribe("similar-projects", this);
+        Thread.ofVirtual().name("similar-projects-load").start(this::rebuild);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void rebuild() {
+        mutation.lock();
+        try {
+            Index rebuilt = new Index();
+            for (Project project : projectRepository.findWithClientByStatus(Project.ProjectStatus.OPEN)) {
+                rebuilt.put(entry(project));
+            }
+            index = rebuilt;
+            log.info("Similar-project index built with {} open projects", rebuilt.entries.size());
+        } catch (RuntimeException e) {
+            log.error("Could not build the similar-project index", e);
+        } finally {
+            mutation.unlock();
+        }
+    }
+
+    private List<ProjectDTO.SimilarProjectResponse> query(Index current, int[] signature, Long excludeId, int limit) {
+        if (signature.length == 0) {
+            return List.of();
+        }
+        Map<Long, Integer> sharedBands = new HashMap<>();
+        for (long key : bandKeys(signature)) {
+            Set<Long> bucket = current.buckets.get(key);
+            if (bucket != null) {
+                bucket.forEach(id -> sharedBands.merge(id, 1, Integer::sum));
+            }
+        }
+        sharedBands.remove(excludeId);
+        Collection<Long> candidates = sharedBands.keySet();
+        if (candidates.size() > maxCandidates) {
+            candidates = sharedBands.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(maxCandidates)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        List<ProjectDTO.SimilarProjectResponse> scored = new ArrayList<>(candidates.size());
+        for (Long id : candidates) {
+            Entry entry = current.entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            int equal = 0;
+            for (int i = 0; i < numHashes; i++) {
+                if (entry.signature()[i] == signature[i]) {
+                    equal++;
+                }
+            }
+            double similarity = (double) equal / numHashes;
+            if (similarity >= minSimilarity) {
+                scored.add(new ProjectDTO.SimilarProjectResponse(entry.id(), entry.title(), entry.budget(),
+                        entry.clientUsername(), entry.createdAt(), similarity));
+            }
+        }
+        scored.sort(Comparator.comparingDouble(ProjectDTO.SimilarProjectResponse::similarity).reversed()
+                .thenComparing(ProjectDTO.SimilarProjectResponse::id, Comparator.reverseOrder()));
+        return scored.size() > limit ? List.copyOf(scored.subList(0, limit)) : scored;
+    }
+
+    private Entry entry(Project project) {
+        return new Entry(project.getId(), project.getTitle(), project.getBudget().toString(),
+                project.getClient().getUsername(), project.getCreatedAt(),
+                signature(project.getTitle(), project.getDescription()));
+    }
+
+    int[] signature(String title, String description) {
+        List<String> words = Terms.words(title, description);
+        if (words.isEmpty()) {
+            return EMPTY;
+        }
+        long[] minimums = new long[numHashes];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        long previous = 0;
+        boolean hasPrevious = false;
+        for (String token : words) {
+            long word = mix(token.hashCode());
+            addShingle(minimums, word);
+            if (hasPrevious) {
+                addShingle(minimums, mix(previous * 31 + word));
+            }
+            previous = word;
+            hasPrevious = true;
+        }
+        int[] signature = new int[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            signature[i] = (int) (minimums[i] >>> 32);
+        }
+        return signature;
+    }
+
+    private void addShingle(long[] minimums, long shingle) {
+        for (int i = 0; i < numHashes; i++) {
+            long hash = mix(shingle ^ seeds[i]);
+            if (hash < minimums[i]) {
+                minimums[i] = hash;
+            }
+        }
+    }
+
+    private long[] bandKeys(int[] signature) {
+        if (signature.length == 0) {
+            return new long[0];
+        }
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = band * rows; row < (band + 1) * rows; row++) {
+                key = key * 0x100000001B3L + signature[row];
+            }
+            keys[band] = mix(key);
+        }
+        return keys;
+    }
+
+    // SplitMix64 finalizer: spreads every input bit over the whole word, giving a family of hash functions per seed
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Entry(Long id, String title, String budget, String clientUsername, LocalDateTime createdAt,
+                         int[] signature) {}
+
+    // Written under the mutation lock only; readers may briefly see a project in some of its buckets but not others
+    private final class Index {
+
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+        private void put(Entry entry) {
+            remove(entry.id());
+            for (long key : bandKeys(entry.signature())) {
+                buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(entry.id());
+            }
+            entries.put(entry.id(), entry);
+        }
+
+        private void remove(Long id) {
+            Entry previous = entries.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (long key : bandKeys(previous.signature())) {
+                buckets.computeIfPresent(key, (k, bucket) -> {
+                    bucket.remove(id);
+                    return bucket.isEmpty() ? null : bucket;
+                });
+            }
+        }
+    }
+}
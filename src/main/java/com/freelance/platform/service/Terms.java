@@ -0,0 +1,36 @@
+package com.freelance.platform.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class Terms {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "about", "all", "also", "and", "any", "are", "but", "can", "could", "each", "for", "from", "has",
+            "have", "how", "into", "its", "just", "more", "not", "our", "out", "should", "some", "than", "that",
+            "the", "their", "them", "then", "there", "these", "they", "this", "those", "very", "was", "were",
+            "what", "when", "which", "who", "will", "with", "would", "you", "your");
+
+    private Terms() {
+    }
+
+    static List<String> words(String... texts) {
+        List<String> words = new ArrayList<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+                if (word.length() >= MIN_LENGTH && !STOP_WORDS.contains(word)) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+}
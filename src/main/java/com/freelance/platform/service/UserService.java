@@ -4,29 +4,68 @@ import com.freelance.platform.dto.UserDTO;
 import com.freelance.platform.entity.User;
 import com.freelance.platform.exception.BadRequestException;
 import com.freelance.platform.exception.ResourceNotFoundException;
+import com.freelance.platform.repository.OrderRepository;
+import com.freelance.platform.repository.ProjectRepository;
+import com.freelance.platform.repository.ProjectionRepository;
 import com.freelance.platform.repository.UserRepository;
+import com.freelance.platform.repository.VersionStamp;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final FieldProjection PROFILE_FIELDS = FieldProjection.from("User u")
+            .field("id", "u.id")
+            .field("username", "u.username")
+            .field("email", "u.email")
+            .field("role", "u.role")
+            .field("balance", "u.balance", Object::toString)
+            .field("avatarUrl", "u.avatarUrl")
+            .field("fullName", "u.fullName")
+            .field("phone", "u.phone")
+            .field("bio", "u.bio")
+            .field("createdAt", "u.createdAt")
+            .field("updatedAt", "u.updatedAt")
+            .build();
+
     private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final OrderRepository orderRepository;
+    private final ProjectionRepository projectionRepository;
 
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmail(currentEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    public String getCurrentUserETag() {
+        User user = getCurrentUser();
+        return new VersionStamp(1, user.getUpdatedAt()).toETag("user-me-" + user.getId());
+    }
+
+    public String getUserETag(Long id) {
+        VersionStamp version = userRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new ResourceNotFoundException("User not found with id: " + id);
+        }
+        return version.toETag("user-" + id);
+    }
+
+    public String getAllUsersETag() {
+        return userRepository.findVersion().toETag("users");
+    }
+
     public UserDTO.UserProfileResponse getCurrentUserProfile() {
         User user = getCurrentUser();
         return mapToProfileResponse(user);
@@ -38,6 +77,20 @@ public class UserService {
         return mapToProfileResponse(user);
     }
 
+    public String getProfileFieldsKey(String fields) {
+        return PROFILE_FIELDS.key(fields);
+    }
+
+    public Map<String, Object> getCurrentUserProfileFields(String fields) {
+        return getProfileFields("u.email = :email", Map.of("email", currentEmail()), fields)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    public Map<String, Object> getUserFieldsById(Long id, String fields) {
+        return getProfileFields("u.id = :id", Map.of("id", id), fields)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
     public List<UserDTO.UserListResponse> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::mapToListResponse)
@@ -53,7 +106,7 @@ public class UserService {
                 userRepository.existsByUsername(request.username())) {
                 throw new BadRequestException("Username already exists");
             }
-            user.setUsername(request.username());
+            renamed(user, request.username());
         }
 
         if (request.email() != null) {
@@ -85,6 +138,13 @@ public class UserService {
     }
 
 
+    @Transactional
+    public UserDTO.UserProfileResponse updateCurrentUserAvatar(String avatarUrl) {
+        User user = getCurrentUser();
+        user.setAvatarUrl(avatarUrl);
+        return mapToProfileResponse(userRepository.save(user));
+    }
+
     @Transactional
     public UserDTO.UserProfileResponse updateUserById(Long id, UserDTO.UpdateUserRequest request) {
         User currentUser = getCurrentUser();
@@ -99,7 +159,7 @@ public class UserService {
             if (!request.username().equals(user.getUsername()) && userRepository.existsByUsername(request.username())) {
                 throw new BadRequestException("Username already exists");
             }
-            user.setUsername(request.username());
+            renamed(user, request.username());
         }
 
         if (request.email() != null) {
@@ -131,7 +191,29 @@ public class UserService {
         userRepository.delete(user);
     }
 
-    private UserDTO.UserProfileResponse mapToProfileResponse(User user) {
+    // Project and order responses show the username, so the rows displaying it have to change version too
+    private void renamed(User user, String username) {
+        if (!username.equals(user.getUsername())) {
+            LocalDateTime now = LocalDateTime.now();
+            projectRepository.touchByClientId(user.getId(), now);
+            orderRepository.touchByParticipantId(user.getId(), now);
+        }
+        user.setUsername(username);
+    }
+
+    private Optional<Map<String, Object>> getProfileFields(String where, Map<String, ?> parameters, String fields) {
+        List<String> selected = PROFILE_FIELDS.parse(fields);
+        return projectionRepository.select(PROFILE_FIELDS.query(selected, where, null), parameters).stream()
+                .findFirst()
+                .map(tuple -> PROFILE_FIELDS.toMap(selected, tuple));
+    }
+
+    private String currentEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
+
+    UserDTO.UserProfileResponse mapToProfileResponse(User user) {
         return new UserDTO.UserProfileResponse(
                 user.getId(),
                 user.getUsername(),
@@ -147,7 +229,7 @@ public class UserService {
         );
     }
 
-    private UserDTO.UserListResponse mapToListResponse(User user) {
+    UserDTO.UserListResponse mapToListResponse(User user) {
         return new UserDTO.UserListResponse(
                 user.getId(),
                 user.getUsername(),
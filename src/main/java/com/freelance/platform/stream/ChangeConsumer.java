@@ -0,0 +1,12 @@
+package com.freelance.platform.stream;
+
+import java.util.List;
+
+// Both methods are called from the subscription's own thread, one call at a time
+public interface ChangeConsumer {
+
+    void onChanges(List<ChangeEvent> changes);
+
+    // Delivery resumes with changes committed after this call started
+    void onOverrun();
+}
@@ -0,0 +1,19 @@
+package com.freelance.platform.stream;
+
+import java.util.Set;
+
+// Carries no entity state; consumers load the new values themselves
+public record ChangeEvent(long sequence, Entity entity, Kind kind, long id, Set<String> changed) {
+
+    public enum Entity {
+        USER,
+        PROJECT,
+        ORDER
+    }
+
+    public enum Kind {
+        INSERTED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,179 @@
+package com.freelance.platform.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Disruptor-style ring: publishers never lock or wait, and a consumer a full ring behind skips ahead
+@Slf4j
+@Component
+public class ChangeStream implements SmartLifecycle {
+
+    private final AtomicReferenceArray<ChangeEvent> ring;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final MeterRegistry registry;
+    private final int maxBatch;
+    private final Counter published;
+    private volatile boolean running;
+
+    public ChangeStream(MeterRegistry registry,
+                        @Value("${changes.ring-size:65536}") int ringSize,
+                        @Value("${changes.consumer-batch:256}") int maxBatch) {
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("changes.ring-size must be a power of two");
+        }
+        this.ring = new AtomicReferenceArray<>(ringSize);
+        this.mask = ringSize - 1;
+        this.registry = registry;
+        this.maxBatch = maxBatch;
+        this.published = Counter.builder("changes.published")
+                .description("Committed entity changes published to the change stream")
+                .register(registry);
+    }
+
+    public void publish(ChangeEvent.Entity entity, ChangeEvent.Kind kind, long id, Set<String> changed) {
+        long sequence = next.getAndIncrement();
+        store(new ChangeEvent(sequence, entity, kind, id, changed));
+        published.increment();
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+    }
+
+    // A publisher stalled for a whole lap must not overwrite the newer event already in its slot
+    void store(ChangeEvent event) {
+        int index = (int) (event.sequence() & mask);
+        ChangeEvent current = ring.get(index);
+        while ((current == null || current.sequence() < event.sequence()) && !ring.compareAndSet(index, current, event)) {
+            current = ring.get(index);
+        }
+    }
+
+    public synchronized void subscribe(String name, ChangeConsumer consumer) {
+        if (subscriptions.stream().anyMatch(subscription -> subscription.name.equals(name))) {
+            throw new IllegalArgumentException("A change consumer named " + name + " is already subscribed");
+        }
+        Subscription subscription = new Subscription(name, consumer, next.get());
+        subscriptions.add(subscription);
+        Gauge.builder("changes.lag", subscription, s -> next.get() - s.sequence)
+                .tag("consumer", name)
+                .description("Changes published but not yet consumed")
+                .register(registry);
+        if (running) {
+            subscription.start();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        subscriptions.forEach(Subscription::start);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscriptions.forEach(subscription -> LockSupport.unpark(subscription.thread));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final String name;
+        private final ChangeConsumer consumer;
+        private final Counter overruns;
+        private volatile long sequence;
+        private volatile boolean parked;
+        private volatile Thread thread;
+
+        private Subscription(String name, ChangeConsumer consumer, long sequence) {
+            this.name = name;
+            this.consumer = consumer;
+            this.sequence = sequence;
+            this.overruns = Counter.builder("changes.overruns")
+                    .tag("consumer", name)
+                    .description("Times the consumer fell a full ring behind and lost changes")
+                    .register(registry);
+        }
+
+        private void start() {
+            if (thread == null) {
+                thread = Thread.ofVirtual().name("changes-" + name).start(this);
+            }
+        }
+
+        private void wake() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<ChangeEvent> batch = new ArrayList<>(maxBatch);
+            long position = sequence;
+            while (running) {
+                ChangeEvent event = ring.get((int) (position & mask));
+                if (event != null && event.sequence() == position) {
+                    batch.add(event);
+                    position++;
+                    if (batch.size() < maxBatch) {
+                        continue;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                    sequence = position;
+                    batch.clear();
+                    continue;
+                }
+                if (event != null && event.sequence() > position) {
+                    position = next.get();
+                    sequence = position;
+                    overruns.increment();
+                    log.warn("Change consumer {} fell behind the ring and is resynchronizing", name);
+                    try {
+                        consumer.onOverrun();
+                    } catch (RuntimeException e) {
+                        log.error("Change consumer {} failed to resynchronize", name, e);
+                    }
+                    continue;
+                }
+                // Nothing published at our position yet; re-check after announcing we park to not miss a wake
+                parked = true;
+                ChangeEvent recheck = ring.get((int) (position & mask));
+                if (running && (recheck == null || recheck.sequence() < position)) {
+                    LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+                }
+                parked = false;
+            }
+        }
+
+        private void deliver(List<ChangeEvent> batch) {
+            try {
+                consumer.onChanges(List.copyOf(batch));
+            } catch (RuntimeException e) {
+                log.error("Change consumer {} failed on {} changes", name, batch.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.freelance.platform.stream;
+
+import com.freelance.platform.entity.Order;
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk JPQL updates and native SQL bypass these listeners
+@Component
+public class EntityChangeCapture implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Map<Class<?>, ChangeEvent.Entity> TRACKED = Map.of(
+            User.class, ChangeEvent.Entity.USER,
+            Project.class, ChangeEvent.Entity.PROJECT,
+            Order.class, ChangeEvent.Entity.ORDER);
+
+    private final ChangeStream changeStream;
+
+    public EntityChangeCapture(EntityManagerFactory entityManagerFactory, ChangeStream changeStream) {
+        this.changeStream = changeStream;
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TRACKED.containsKey(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), ChangeEvent.Kind.INSERTED, event.getId(), Set.of());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        Set<String> changed = Set.of();
+        if (dirty != null) {
+            String[] names = event.getPersister().getPropertyNames();
+            Set<String> dirtyNames = new HashSet<>(dirty.length);
+            for (int index : dirty) {
+                dirtyNames.add(names[index]);
+            }
+            changed = Set.copyOf(dirtyNames);
+        }
+        publish(event.getPersister(), ChangeEvent.Kind.UPDATED, event.getId(), changed);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), ChangeEvent.Kind.DELETED, event.getId(), Set.of());
+    }
+
+    // Nothing was published for a failed commit, so there is nothing to take back
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(EntityPersister persister, ChangeEvent.Kind kind, Object id, Set<String> changed) {
+        ChangeEvent.Entity entity = TRACKED.get(persister.getMappedClass());
+        if (entity != null && id instanceof Long value) {
+            changeStream.publish(entity, kind, value, changed);
+        }
+    }
+}
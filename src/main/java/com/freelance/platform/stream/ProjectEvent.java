@@ -0,0 +1,13 @@
+package com.freelance.platform.stream;
+
+import com.freelance.platform.dto.ProjectDTO;
+
+public record ProjectEvent(Type type, ProjectDTO.ProjectListResponse project) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        CLOSED,
+        DELETED
+    }
+}
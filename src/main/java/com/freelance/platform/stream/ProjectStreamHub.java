@@ -0,0 +1,219 @@
+package com.freelance.platform.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A subscriber whose queue overflows is disconnected and resumes with Last-Event-ID
+@Slf4j
+@Component
+public class ProjectStreamHub implements SmartLifecycle {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final SequencedEvent[] history;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeatInterval;
+    private final long timeoutMillis;
+    private final Counter droppedSubscribers;
+    // Event ids are <epoch>-<sequence>; ids from before a restart carry another epoch and always get a reset
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private long lastId;
+    private volatile boolean running;
+
+    public ProjectStreamHub(MeterRegistry registry,
+                            @Value("${project-stream.replay-size:1024}") int replaySize,
+                            @Value("${project-stream.subscriber-buffer:256}") int bufferSize,
+                            @Value("${project-stream.max-subscribers:20000}") int maxSubscribers,
+                            @Value("${project-stream.heartbeat-interval:25s}") Duration heartbeatInterval,
+                            @Value("${project-stream.timeout:30m}") Duration timeout) {
+        this.history = new SequencedEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeoutMillis = timeout.toMillis();
+        this.droppedSubscribers = Counter.builder("projects.stream.dropped")
+                .description("Subscribers disconnected because their buffer overflowed")
+                .register(registry);
+        Gauge.builder("projects.stream.subscribers", subscribers, Set::size)
+                .description("Open project SSE connections")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(ProjectEvent event) {
+        lock.lock();
+        try {
+            SequencedEvent sequenced = new SequencedEvent(++lastId, event);
+            history[(int) (sequenced.id() % history.length)] = sequenced;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(sequenced)) {
+                    droppedSubscribers.increment();
+                    subscriber.close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        if (!running || subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                Long sequence = sequenceOf(lastEventId);
+                List<SequencedEvent> missed = sequence == null ? null : replayAfter(sequence);
+                if (missed == null || missed.size() > bufferSize) {
+                    subscriber.resetRequired = true;
+                } else {
+                    subscriber.queue.addAll(missed);
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.thread = Thread.ofVirtual().name("project-stream-", subscriber.hashCode()).start(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // Runs before the web server's graceful shutdown, which would otherwise wait for every open stream
+    @Override
+    public void stop() {
+        running = false;
+        subscribers.forEach(Subscriber::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Long sequenceOf(String lastEventId) {
+        String prefix = epoch + "-";
+        if (!lastEventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Returns null when events after lastEventId have already been overwritten, so the client must reload
+    private List<SequencedEvent> replayAfter(long lastEventId) {
+        if (lastEventId > lastId) {
+            return null;
+        }
+        if (lastEventId == lastId) {
+            return List.of();
+        }
+        long oldest = Math.max(1, lastId - history.length + 1);
+        if (lastEventId + 1 < oldest) {
+            return null;
+        }
+        List<SequencedEvent> missed = new ArrayList<>((int) (lastId - lastEventId));
+        for (long id = lastEventId + 1; id <= lastId; id++) {
+            missed.add(history[(int) (id % history.length)]);
+        }
+        return missed;
+    }
+
+    private record SequencedEvent(long id, ProjectEvent event) {}
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SequencedEvent> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread thread;
+        private boolean resetRequired;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<SequencedEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (resetRequired) {
+                    // the client missed more than the replay ring holds and has to reload the list
+                    emitter.send(SseEmitter.event().name("reset").data("{}", MediaType.APPLICATION_JSON));
+                }
+                while (!closed.get()) {
+                    SequencedEvent next = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(epoch + "-" + next.id())
+                                .name(next.event().type().name().toLowerCase(Locale.ROOT))
+                                .data(next.event().project(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Project stream subscriber disconnected: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+                emitter.complete();
+            }
+        }
+
+        // Only wakes the subscriber's thread: complete() may block on a stalled socket under the hub lock
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            Thread current = thread;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
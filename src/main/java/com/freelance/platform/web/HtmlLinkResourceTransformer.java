@@ -0,0 +1,50 @@
+package com.freelance.platform.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// The HTML counterpart of CssLinkResourceTransformer
+class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern ASSET_LINK =
+            Pattern.compile("((?:href|src)=\")((?:css|js)/[^\"?#:]+\\.(?:css|js))\"");
+
+    @Override
+    @NonNull
+    public Resource transform(@NonNull HttpServletRequest request, @NonNull Resource resource,
+                              @NonNull ResourceTransformerChain chain) throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String content = resource.getContentAsString(StandardCharsets.UTF_8);
+        Matcher matcher = ASSET_LINK.matcher(content);
+        StringBuilder rewritten = new StringBuilder(content.length() + 256);
+        boolean changed = false;
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String versioned = resolveUrlPath(link, request, resource, chain);
+            if (versioned != null && !versioned.equals(link)) {
+                changed = true;
+                link = versioned;
+            }
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(matcher.group(1) + link + "\""));
+        }
+        if (!changed) {
+            return resource;
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
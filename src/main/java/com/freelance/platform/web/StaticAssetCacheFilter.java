@@ -0,0 +1,72 @@
+package com.freelance.platform.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+@Component
+public class StaticAssetCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.(?:css|js)$");
+
+    private final String immutable;
+    private final String revalidate = CacheControl.noCache().getHeaderValue();
+
+    public StaticAssetCacheFilter(@Value("${static-assets.max-age:365d}") Duration maxAge) {
+        this.immutable = CacheControl.maxAge(maxAge).cachePublic().immutable().getHeaderValue();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/css/") && !uri.startsWith("/js/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!FINGERPRINTED.matcher(request.getRequestURI()).find()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, revalidate);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable);
+        // A 404 for a hash this node does not know yet (rolling deploy) must not be pinned by caches
+        filterChain.doFilter(request, new HttpServletResponseWrapper(response) {
+            @Override
+            public void setStatus(int sc) {
+                if (sc >= 400) {
+                    setHeader(HttpHeaders.CACHE_CONTROL, revalidate);
+                }
+                super.setStatus(sc);
+            }
+
+            @Override
+            public void sendError(int sc) throws IOException {
+                setHeader(HttpHeaders.CACHE_CONTROL, revalidate);
+                super.sendError(sc);
+            }
+
+            @Override
+            public void sendError(int sc, String msg) throws IOException {
+                setHeader(HttpHeaders.CACHE_CONTROL, revalidate);
+                super.sendError(sc, msg);
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.freelance.platform.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    static final String STATIC_LOCATION = "classpath:/static/";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Cache-Control for assets is set by StaticAssetCacheFilter, which can tell fingerprinted URLs apart
+        for (String directory : new String[]{"css", "js"}) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations(STATIC_LOCATION + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(contentVersionResolver());
+        }
+
+        // Pages are small and change with every deploy: always revalidated, asset links rewritten to fingerprinted URLs
+        registry.addResourceHandler("/*.html")
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(contentVersionResolver())
+                .addTransformer(new HtmlLinkResourceTransformer());
+    }
+
+    private static VersionResourceResolver contentVersionResolver() {
+        return new VersionResourceResolver().addContentVersionStrategy("/**");
+    }
+}
@@ -221,7 +221,7 @@ class AuthManager {
                 const avatar = document.querySelector('#user-avatar img');
                 if (avatar) {
                     avatar.src = this.user.avatarUrl || 
-                        `https://api.dicebear.com/7.x/avataaars/svg?seed=${this.user.username}`;
+                        `/api/avatars/${encodeURIComponent(this.user.username)}.svg`;
                 }
             }
         } else {
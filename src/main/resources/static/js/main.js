@@ -186,7 +186,7 @@ class AuthManager {
             if (this.user && this.user.username) {
                 const avatar = document.querySelector('#user-avatar img');
                 if (avatar) {
-                    avatar.src = this.user.avatarUrl || `https://api.dicebear.com/7.x/avataaars/svg?seed=${this.user.username}`;
+                    avatar.src = this.user.avatarUrl || `/api/avatars/${encodeURIComponent(this.user.username)}.svg`;
                 }
             }
         } else {
@@ -597,15 +597,21 @@ async function loadProjects() {
 // ========================================
 // LOAD PROJECTS ON INDEX PAGE
 // ========================================
+const INDEX_PROJECT_LIMIT = 4;
+// Projects currently on the index grid, so stream events can patch single cards
+const indexProjects = new Map();
+
 async function loadIndexProjects() {
     const projectsGrid = document.getElementById('projects-grid');
     if (!projectsGrid) return;
 
     try {
         // TODO CODEX: Fetch from GET /api/projects?limit=4
-        const projects = await ApiService.fetchProjects(4);
+        const projects = await ApiService.fetchProjects(INDEX_PROJECT_LIMIT);
         
         projectsGrid.innerHTML = '';
+        indexProjects.clear();
+        projects.forEach(project => indexProjects.set(project.id, project));
         
         if (projects.length === 0) {
             projectsGrid.innerHTML = `
@@ -703,28 +709,59 @@ async function completeOrder(orderId) {
     }
 }
 
+// ========================================
+// PROPOSALS
+// ========================================
+async function submitProposal(projectId, price, coverLetter) {
+    try {
+        const response = await apiFetch(`/api/projects/${projectId}/proposals`, {
+            method: 'POST',
+            headers: auth.getAuthHeaders(),
+            body: JSON.stringify({
+                price: parseFloat(price),
+                coverLetter
+            })
+        });
+
+        await ApiErrorHandler.handleResponse(response);
+        return true;
+
+    } catch (error) {
+        ApiErrorHandler.displayError(error);
+        return false;
+    }
+}
+
 // ========================================
 // PROJECT APPLY LISTENERS
 // ========================================
 function attachProjectApplyListeners() {
-    document.querySelectorAll('.btn-project-apply').forEach(button => {
-        button.addEventListener('click', function() {
-            const projectId = this.getAttribute('data-project-id');
-            
-            // Check if user is logged in
-            const token = localStorage.getItem('jwt_token');
-            if (!token) {
-                toast.error('Войдите в аккаунт для отклика на проект');
-                setTimeout(() => {
-                    ModalManager.open('login-modal');
-                }, 1000);
-                return;
-            }
+    document.querySelectorAll('.btn-project-apply').forEach(bindProjectApplyButton);
+}
 
-            // TODO CODEX: Send application POST /api/orders
-            console.log('Applying to project:', projectId);
+function bindProjectApplyButton(button) {
+    button.addEventListener('click', async function() {
+        const projectId = this.getAttribute('data-project-id');
+        
+        // Check if user is logged in
+        const token = localStorage.getItem('jwt_token');
+        if (!token) {
+            toast.error('Войдите в аккаунт для отклика на проект');
+            setTimeout(() => {
+                ModalManager.open('login-modal');
+            }, 1000);
+            return;
+        }
+
+        const price = prompt('Ваша цена за проект, ₽');
+        if (price === null) {
+            return;
+        }
+        const coverLetter = prompt('Сопроводительное письмо (необязательно)') || null;
+
+        if (await submitProposal(projectId, price, coverLetter)) {
             toast.success('Отклик отправлен! Заказчик рассмотрит ваше предложение.');
-        });
+        }
     });
 }
 
@@ -750,6 +787,81 @@ function initModalCloseListeners() {
 }
 
 
+// ========================================
+// LIVE PROJECT UPDATES (SSE)
+// ========================================
+function subscribeToProjectStream(onEvent, onReset) {
+    if (!window.EventSource) return null;
+
+    // EventSource reconnects on its own and sends Last-Event-ID, so missed events are replayed;
+    // reset means the server could not replay them and the list has to be fetched again
+    const source = new EventSource(buildApiUrl('/api/projects/stream'));
+    ['created', 'updated', 'closed', 'deleted'].forEach(type => {
+        source.addEventListener(type, event => onEvent(type, JSON.parse(event.data)));
+    });
+    source.addEventListener('reset', onReset);
+    return source;
+}
+
+function applyIndexProjectEvent(type, project) {
+    const projectsGrid = document.getElementById('projects-grid');
+    if (!projectsGrid) return;
+
+    const existing = projectsGrid.querySelector(`.btn-project-apply[data-project-id="${project.id}"]`)
+        ?.closest('.col-lg-6');
+    if (type === 'closed' || type === 'deleted') {
+        existing?.remove();
+        indexProjects.delete(project.id);
+        return;
+    }
+    if (type === 'updated' && !existing) return;
+
+    // Stream payloads are list views; keep fields such as the description from the full load
+    const merged = { ...indexProjects.get(project.id), ...project };
+    indexProjects.set(project.id, merged);
+    const card = ProjectRenderer.renderCard(merged);
+    bindProjectApplyButton(card.querySelector('.btn-project-apply'));
+
+    if (existing) {
+        existing.replaceWith(card);
+        return;
+    }
+    projectsGrid.querySelector('.col-12')?.remove();
+    projectsGrid.prepend(card);
+    while (projectsGrid.children.length > INDEX_PROJECT_LIMIT) {
+        const dropped = projectsGrid.lastElementChild;
+        indexProjects.delete(Number(dropped.querySelector('.btn-project-apply')?.dataset.projectId));
+        dropped.remove();
+    }
+}
+
+
+// ========================================
+// DASHBOARD (profile, projects and orders in one request)
+// ========================================
+let dashboardRequest = null;
+
+async function loadDashboard() {
+    try {
+        const response = await apiFetch('/api/dashboard', {
+            method: 'GET',
+            headers: auth.getAuthHeaders(false)
+        });
+
+        const dashboard = await ApiErrorHandler.handleResponse(response);
+        auth.user = dashboard.profile;
+        localStorage.setItem('user', JSON.stringify(dashboard.profile));
+        auth.updateUI();
+        return dashboard;
+    } catch (error) {
+        console.error('Dashboard fetch error:', error);
+        if (error.status === 401 || error.status === 403) {
+            auth.logout();
+        }
+        return null;
+    }
+}
+
 // ========================================
 // INITIALIZE ON PAGE LOAD
 // ========================================
@@ -757,6 +869,11 @@ document.addEventListener('DOMContentLoaded', function() {
     console.log('%c🚀 ZeroPoint Platform', 'font-size: 24px; font-weight: bold; color: #7c3aed;');
     console.log('%cMain.js loaded successfully', 'font-size: 14px; color: #06b6d4;');
 
+    // Started first so page scripts can share it instead of fetching profile, projects and orders themselves
+    if (auth.isLoggedIn()) {
+        dashboardRequest = loadDashboard();
+    }
+
     // Initialize smooth scroll
     initSmoothScroll();
 
@@ -766,6 +883,7 @@ document.addEventListener('DOMContentLoaded', function() {
     // Load projects on index page
     if (document.getElementById('projects-grid')) {
         loadIndexProjects();
+        subscribeToProjectStream(applyIndexProjectEvent, loadIndexProjects);
     }
 
     // Hero "Start" button
@@ -799,14 +917,12 @@ window.addEventListener('load', () => {
     // Update UI based on auth state
     auth.updateUI();
     
-    // Fetch user profile if logged in
+    // Logged-in pages already have profile and projects from the dashboard; guests only load projects
     if (auth.isLoggedIn()) {
-        auth.fetchUserProfile();
         loadUserProfile();
+    } else {
+        loadProjects();
     }
-    
-    // Load projects (public endpoint)
-    loadProjects();
     renderBalance();
     renderTransactions();
     applyLanguage(localStorage.getItem('lang') || 'ru');
@@ -819,5 +935,6 @@ window.ZeroPoint = {
     ModalManager,
     ApiService,
     ProjectRenderer,
-    MoneyFormatter
+    MoneyFormatter,
+    dashboard: () => dashboardRequest
 };
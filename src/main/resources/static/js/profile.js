@@ -175,7 +175,7 @@ class ProfileManager {
         document.getElementById('sidebar-role').textContent = this.getRoleDisplayName(userData.role);
         
         const sidebarAvatar = document.getElementById('sidebar-avatar');
-        sidebarAvatar.src = userData.avatarUrl || `https://api.dicebear.com/7.x/avataaars/svg?seed=${userData.username}`;
+        sidebarAvatar.src = userData.avatarUrl || `/api/avatars/${encodeURIComponent(userData.username)}.svg`;
 
         // Balance display
         document.getElementById('balance-display').textContent = this.formatBalance(userData.balance);
@@ -259,7 +259,9 @@ class ProfileManager {
         this.showLoading(true);
 
         try {
-            const userData = await this.fetchUserProfile();
+            // main.js already requested the dashboard, which carries the profile
+            const dashboard = await window.ZeroPoint?.dashboard?.();
+            const userData = dashboard?.profile || await this.fetchUserProfile();
             this.renderProfile(userData);
             this.showLoading(false);
         } catch (error) {
@@ -0,0 +1,114 @@
+package com.freelance.platform.precompress;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Writes .gz (and with -Dprecompress.brotli, .br) siblings of the static css and js, keeping only smaller ones
+public final class StaticAssetPrecompressor {
+
+    private static final System.Logger LOG = System.getLogger(StaticAssetPrecompressor.class.getName());
+    private static final List<String> EXTENSIONS = List.of(".css", ".js", ".svg");
+    private static final int MIN_SIZE = 256;
+
+    private StaticAssetPrecompressor() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path root = Path.of(args.length > 0 ? args[0] : "target/classes/static");
+        boolean brotli = args.length > 1 && Boolean.parseBoolean(args[1]);
+        if (!Files.isDirectory(root)) {
+            LOG.log(System.Logger.Level.INFO, "No static assets under {0}", root);
+            return;
+        }
+        if (brotli && !brotliAvailable()) {
+            throw new IllegalStateException("precompress.brotli is set but the brotli CLI could not be run; "
+                    + "install it or build without -Dprecompress.brotli");
+        }
+
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(root)) {
+            assets = files.filter(Files::isRegularFile)
+                    .filter(file -> EXTENSIONS.stream().anyMatch(file.getFileName().toString()::endsWith))
+                    .toList();
+        }
+
+        int written = 0;
+        for (Path asset : assets) {
+            if (Files.size(asset) < MIN_SIZE) {
+                continue;
+            }
+            if (isStale(asset, sibling(asset, ".gz"))) {
+                written += keepIfSmaller(asset, gzip(asset));
+            }
+            if (brotli && isStale(asset, sibling(asset, ".br"))) {
+                written += keepIfSmaller(asset, brotli(asset));
+            }
+        }
+        LOG.log(System.Logger.Level.INFO, "Precompressed {0} variant(s) for {1} asset(s) in {2} ({3})",
+                written, assets.size(), root, brotli ? "gzip, brotli" : "gzip");
+    }
+
+    private static Path gzip(Path asset) throws IOException {
+        Path target = sibling(asset, ".gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target)) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            Files.copy(asset, out);
+        }
+        return target;
+    }
+
+    private static Path brotli(Path asset) throws IOException, InterruptedException {
+        Path target = sibling(asset, ".br");
+        Process process = new ProcessBuilder("brotli", "-q", "11", "-f", "-o", target.toString(), asset.toString())
+                .inheritIO()
+                .start();
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            Files.deleteIfExists(target);
+            throw new IOException("brotli failed for " + asset);
+        }
+        return target;
+    }
+
+    private static int keepIfSmaller(Path asset, Path variant) throws IOException {
+        if (Files.size(variant) >= Files.size(asset)) {
+            Files.delete(variant);
+            return 0;
+        }
+        // Same timestamp as the source so Last-Modified does not depend on the encoding served
+        Files.setLastModifiedTime(variant, Files.getLastModifiedTime(asset));
+        return 1;
+    }
+
+    private static boolean isStale(Path asset, Path variant) throws IOException {
+        return !Files.exists(variant)
+                || Files.getLastModifiedTime(variant).compareTo(Files.getLastModifiedTime(asset)) < 0;
+    }
+
+    private static boolean brotliAvailable() {
+        try {
+            Process process = new ProcessBuilder("brotli", "--version").redirectErrorStream(true).start();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Path sibling(Path asset, String suffix) {
+        return asset.resolveSibling(asset.getFileName() + suffix);
+    }
+}
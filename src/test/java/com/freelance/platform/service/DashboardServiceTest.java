@@ -0,0 +1,107 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.entity.Project;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private final UserService userService = mock(UserService.class);
+    private final ProjectService projectService = mock(ProjectService.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private final DashboardService dashboardService = new DashboardService(
+            userService, projectService, orderService, mock(PlatformTransactionManager.class), TIMEOUT);
+
+    @Test
+    void blockedBranchFailsWithinTimeout() {
+        User client = new User();
+        client.setId(1L);
+        client.setRole(User.UserRole.CLIENT);
+        when(userService.getCurrentUser()).thenReturn(client);
+        when(projectService.getProjectsFor(any())).thenReturn(List.of());
+        when(orderService.getOrdersFor(any())).thenReturn(List.of());
+
+        // Ignores interrupts, like a thread parked in a socket read
+        CountDownLatch release = new CountDownLatch(1);
+        when(projectService.getProjectsByStatus(Project.ProjectStatus.OPEN)).thenAnswer(invocation -> {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // keep blocking
+                }
+            }
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        try {
+            assertThatThrownBy(dashboardService::getDashboard)
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(TIMEOUT.multipliedBy(5));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void failedBranchDoesNotWaitForTheOthers() {
+        User client = new User();
+        client.setId(1L);
+        client.setRole(User.UserRole.CLIENT);
+        when(userService.getCurrentUser()).thenReturn(client);
+        when(projectService.getProjectsByStatus(any())).thenThrow(new IllegalStateException("boom"));
+        when(projectService.getProjectsFor(any())).thenReturn(List.of());
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.getOrdersFor(any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        try {
+            assertThatThrownBy(dashboardService::getDashboard).hasMessage("boom");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(TIMEOUT);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void lastBranchFailureDoesNotWaitForTheFirst() {
+        User client = new User();
+        client.setId(1L);
+        client.setRole(User.UserRole.CLIENT);
+        when(userService.getCurrentUser()).thenReturn(client);
+        when(projectService.getProjectsFor(any())).thenReturn(List.of());
+        when(orderService.getOrdersFor(any())).thenThrow(new IllegalStateException("boom"));
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(projectService.getProjectsByStatus(any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        // Waiting for the blocked first branch would end in the timeout instead of the failure
+        try {
+            assertThatThrownBy(dashboardService::getDashboard).hasMessage("boom");
+        } finally {
+            release.countDown();
+        }
+    }
+}
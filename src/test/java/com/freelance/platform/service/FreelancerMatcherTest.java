@@ -0,0 +1,79 @@
+package com.freelance.platform.service;
+
+import com.freelance.platform.dto.ProjectDTO;
+import com.freelance.platform.entity.User;
+import com.freelance.platform.repository.CompletedWork;
+import com.freelance.platform.repository.OrderRepository;
+import com.freelance.platform.repository.UserRepository;
+import com.freelance.platform.stream.ChangeEvent;
+import com.freelance.platform.stream.ChangeStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FreelancerMatcherTest {
+
+    private static final String TITLE = "React dashboard";
+    private static final String DESCRIPTION = "Sales dashboard with React charts written in TypeScript";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final FreelancerMatcher matcher = new FreelancerMatcher(userRepository, orderRepository,
+            mock(ChangeStream.class), new SimpleMeterRegistry(), 0.2);
+
+    private final User react = freelancer(1L, "react", "React TypeScript developer building dashboards and charts");
+    private final User frontend = freelancer(2L, "frontend", "Frontend developer working with React and CSS");
+    private final User designer = freelancer(3L, "designer", "Logo design and branding for small businesses");
+    private final User writer = freelancer(4L, "writer", "Technical writing and documentation");
+
+    @BeforeEach
+    void load() {
+        when(userRepository.findByRole(User.UserRole.FREELANCER)).thenReturn(List.of(react, frontend, designer, writer));
+        when(orderRepository.findCompletedWork()).thenReturn(List.of());
+        matcher.onOverrun();
+    }
+
+    @Test
+    void returnsBestMatchesFirstUpToLimit() {
+        List<ProjectDTO.FreelancerMatchResponse> matches = matcher.match(TITLE, DESCRIPTION, 2);
+
+        assertThat(matches).extracting(ProjectDTO.FreelancerMatchResponse::freelancerId).containsExactly(1L, 2L);
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(matcher.match(TITLE, DESCRIPTION, 10)).extracting(ProjectDTO.FreelancerMatchResponse::freelancerId)
+                .containsExactly(1L, 2L);
+        assertThat(matcher.match("Unrelated", "Gardening and landscaping for a backyard", 10)).isEmpty();
+    }
+
+    @Test
+    void completedOrderUpdatesProfileIncrementally() {
+        when(orderRepository.findFreelancerIdsByIdIn(Set.of(7L))).thenReturn(List.of(4L));
+        when(userRepository.findByIdInAndRole(any(), any())).thenReturn(List.of(writer));
+        when(orderRepository.findCompletedWorkByFreelancerIdIn(any())).thenReturn(List.of(
+                new CompletedWork(4L, "Sales dashboard in React", "React dashboard with TypeScript charts for sales"),
+                new CompletedWork(4L, "Dashboard charts", "Charts for a React sales dashboard")));
+
+        matcher.onChanges(List.of(new ChangeEvent(0, ChangeEvent.Entity.ORDER, ChangeEvent.Kind.UPDATED, 7L,
+                Set.of("status"))));
+
+        List<ProjectDTO.FreelancerMatchResponse> matches = matcher.match(TITLE, DESCRIPTION, 3);
+        assertThat(matches).extracting(ProjectDTO.FreelancerMatchResponse::freelancerId).containsExactly(4L, 1L, 2L);
+        assertThat(matches.get(0).completedOrders()).isEqualTo(2);
+    }
+
+    private static User freelancer(Long id, String username, String bio) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setRole(User.UserRole.FREELANCER);
+        user.setBio(bio);
+        return user;
+    }
+}
@@ -0,0 +1,162 @@
+package com.freelance.platform.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeStreamTest {
+
+    private ChangeStream stream;
+
+    @AfterEach
+    void stop() {
+        if (stream != null) {
+            stream.stop();
+        }
+    }
+
+    @Test
+    void deliversConcurrentPublishesInSequenceOrder() throws Exception {
+        stream = new ChangeStream(new SimpleMeterRegistry(), 4096, 64);
+        Recorder recorder = new Recorder();
+        stream.subscribe("ordering", recorder);
+        stream.start();
+
+        List<Thread> publishers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            publishers.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 500; j++) {
+                    publish();
+                }
+            }));
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        assertThat(recorder.take(2000)).containsExactlyElementsOf(LongStream.range(0, 2000).boxed().toList());
+        assertThat(recorder.overruns.get()).isZero();
+    }
+
+    @Test
+    void stalledPublisherDoesNotOverwriteNewerLap() throws Exception {
+        stream = new ChangeStream(new SimpleMeterRegistry(), 8, 4);
+        Recorder recorder = new Recorder();
+        stream.subscribe("lapped", recorder);
+        for (int i = 0; i < 9; i++) {
+            publish();
+        }
+        // The publisher of sequence 0 finishing its store only after sequence 8 took the slot
+        stream.store(new ChangeEvent(0, ChangeEvent.Entity.PROJECT, ChangeEvent.Kind.UPDATED, 1, Set.of()));
+        stream.start();
+
+        assertThat(recorder.overrun.await(5, TimeUnit.SECONDS)).isTrue();
+        publish();
+        assertThat(recorder.take(1)).containsExactly(9L);
+    }
+
+    @Test
+    void slowConsumerIsToldOfOverrunAndResumes() throws Exception {
+        stream = new ChangeStream(new SimpleMeterRegistry(), 8, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onChanges(List<ChangeEvent> changes) {
+                super.onChanges(changes);
+                await(release);
+            }
+        };
+        stream.subscribe("slow", recorder);
+        stream.start();
+
+        publish();
+        assertThat(recorder.take(1)).containsExactly(0L);
+        for (int i = 0; i < 20; i++) {
+            publish();
+        }
+        release.countDown();
+
+        assertThat(recorder.overrun.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(recorder.overruns.get()).isEqualTo(1);
+        publish();
+        assertThat(recorder.take(1)).containsExactly(21L);
+    }
+
+    @Test
+    void publishWakesParkedConsumer() throws Exception {
+        stream = new ChangeStream(new SimpleMeterRegistry(), 8, 4);
+        Recorder recorder = new Recorder();
+        stream.subscribe("wakeup", recorder);
+        stream.start();
+
+        // Each idle wait parks for up to a second unless the publisher unparks the consumer
+        for (long sequence = 0; sequence < 5; sequence++) {
+            Thread.sleep(50);
+            publish();
+            assertThat(recorder.sequences.poll(300, TimeUnit.MILLISECONDS)).isEqualTo(sequence);
+        }
+    }
+
+    @Test
+    void rejectsDuplicateSubscriptionName() {
+        stream = new ChangeStream(new SimpleMeterRegistry(), 8, 4);
+        stream.subscribe("matching", new Recorder());
+
+        assertThatThrownBy(() -> stream.subscribe("matching", new Recorder()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("matching");
+    }
+
+    private void publish() {
+        stream.publish(ChangeEvent.Entity.PROJECT, ChangeEvent.Kind.UPDATED, 1, Set.of("title"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Recorder implements ChangeConsumer {
+
+        final BlockingQueue<Long> sequences = new LinkedBlockingQueue<>();
+        final AtomicInteger overruns = new AtomicInteger();
+        final CountDownLatch overrun = new CountDownLatch(1);
+
+        @Override
+        public void onChanges(List<ChangeEvent> changes) {
+            changes.forEach(change -> sequences.add(change.sequence()));
+        }
+
+        @Override
+        public void onOverrun() {
+            overruns.incrementAndGet();
+            overrun.countDown();
+        }
+
+        List<Long> take(int count) throws InterruptedException {
+            List<Long> taken = new ArrayList<>();
+            while (taken.size() < count) {
+                Long sequence = sequences.poll(5, TimeUnit.SECONDS);
+                assertThat(sequence).as("change %d of %d", taken.size() + 1, count).isNotNull();
+                taken.add(sequence);
+            }
+            return taken;
+        }
+    }
+}